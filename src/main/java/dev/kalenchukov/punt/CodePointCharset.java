@@ -0,0 +1,357 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Класс набора символов, заданных кодовыми точками Unicode.
+ * <p>
+ * В отличие от наборов из {@link Character}, допускает символы всех
+ * плоскостей Unicode, в том числе эмодзи, без разделения суррогатных пар.
+ * При создании объекта определяется, входят ли все символы в Latin-1 или в
+ * базовую многоязычную плоскость, и для каждого символа заранее вычисляется
+ * его запись в UTF-16 и UTF-8. Поэтому генерирование сводится к выбору индекса
+ * и копированию готовых единиц кодирования.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class CodePointCharset
+{
+	/**
+	 * Количество символов, генерируемых за один шаг.
+	 */
+	private static final int CHUNK_SIZE = 1 << 12;
+
+	/**
+	 * Кодовые точки символов.
+	 */
+	private final int @NotNull [] codePoints;
+
+	/**
+	 * Признак того, что все символы входят в Latin-1.
+	 */
+	private final boolean latin1;
+
+	/**
+	 * Признак того, что все символы входят в базовую многоязычную плоскость.
+	 */
+	private final boolean bmp;
+
+	/**
+	 * Признак того, что все символы входят в ASCII.
+	 */
+	private final boolean ascii;
+
+	/**
+	 * Записи символов в UTF-16, по две единицы кодирования на символ.
+	 */
+	private final char @NotNull [] utf16;
+
+	/**
+	 * Количество единиц кодирования UTF-16 каждого символа.
+	 */
+	private final byte @NotNull [] utf16Length;
+
+	/**
+	 * Записи символов в UTF-8, по четыре байта на символ.
+	 */
+	private final byte @NotNull [] utf8;
+
+	/**
+	 * Количество байт UTF-8 каждого символа.
+	 */
+	private final byte @NotNull [] utf8Length;
+
+	/**
+	 * Символы базовой многоязычной плоскости.
+	 * <p>
+	 * Заполняется, только если все символы входят в эту плоскость.
+	 * </p>
+	 */
+	private final char @NotNull [] chars;
+
+	/**
+	 * Символы в Latin-1.
+	 * <p>
+	 * Заполняется, только если все символы входят в Latin-1.
+	 * </p>
+	 */
+	private final byte @NotNull [] bytes;
+
+	/**
+	 * Генератор индексов символов.
+	 */
+	@NotNull
+	private final MixedRadix engine;
+
+	/**
+	 * Конструктор для {@code CodePointCharset}.
+	 *
+	 * @param codePoints кодовые точки символов из которых должна состоять строка.
+	 * @throws NullPointerException если в качестве {@code codePoints} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code codePoints} пусты.
+	 * @throws IllegalArgumentException если {@code codePoints} содержат недопустимую кодовую точку или суррогат.
+	 */
+	public CodePointCharset(final int @NotNull ... codePoints)
+	{
+		Objects.requireNonNull(codePoints);
+
+		if (codePoints.length == 0) {
+			throw new IllegalArgumentException();
+		}
+
+		this.codePoints = codePoints.clone();
+		this.utf16 = new char[this.codePoints.length * 2];
+		this.utf16Length = new byte[this.codePoints.length];
+		this.utf8 = new byte[this.codePoints.length * 4];
+		this.utf8Length = new byte[this.codePoints.length];
+
+		int max = 0;
+
+		for (int i = 0; i < this.codePoints.length; i++) {
+			final int codePoint = this.codePoints[i];
+
+			if (!Character.isValidCodePoint(codePoint) || Character.getType(codePoint) == Character.SURROGATE) {
+				throw new IllegalArgumentException();
+			}
+
+			max = Math.max(max, codePoint);
+
+			this.utf16Length[i] = (byte) Character.toChars(codePoint, this.utf16, i * 2);
+
+			final byte[] encoded = new String(this.utf16, i * 2, this.utf16Length[i]).getBytes(StandardCharsets.UTF_8);
+
+			System.arraycopy(encoded, 0, this.utf8, i * 4, encoded.length);
+			this.utf8Length[i] = (byte) encoded.length;
+		}
+
+		this.ascii = max < 0x80;
+		this.latin1 = max <= 0xFF;
+		this.bmp = max <= Character.MAX_VALUE;
+		this.chars = this.bmp ? new char[this.codePoints.length] : new char[0];
+		this.bytes = this.latin1 ? new byte[this.codePoints.length] : new byte[0];
+
+		for (int i = 0; i < this.chars.length; i++) {
+			this.chars[i] = (char) this.codePoints[i];
+		}
+
+		for (int i = 0; i < this.bytes.length; i++) {
+			this.bytes[i] = (byte) this.codePoints[i];
+		}
+
+		this.engine = new MixedRadix(this.codePoints.length);
+	}
+
+	/**
+	 * Возвращает набор из символов строки.
+	 *
+	 * @param symbols строка, символы которой составят набор.
+	 * @return набор символов.
+	 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code symbols} пустая или содержит одиночный суррогат.
+	 */
+	@NotNull
+	public static CodePointCharset of(@NotNull final CharSequence symbols)
+	{
+		Objects.requireNonNull(symbols);
+
+		return new CodePointCharset(symbols.codePoints().toArray());
+	}
+
+	/**
+	 * Возвращает кодовые точки символов.
+	 *
+	 * @return кодовые точки символов.
+	 */
+	public int @NotNull [] getCodePoints()
+	{
+		return this.codePoints.clone();
+	}
+
+	/**
+	 * Проверяет, входят ли все символы в Latin-1.
+	 *
+	 * @return {@code true}, если все символы входят в Latin-1, иначе {@code false}.
+	 */
+	public boolean isLatin1()
+	{
+		return this.latin1;
+	}
+
+	/**
+	 * Проверяет, входят ли все символы в базовую многоязычную плоскость.
+	 *
+	 * @return {@code true}, если все символы входят в базовую многоязычную плоскость, иначе {@code false}.
+	 */
+	public boolean isBmp()
+	{
+		return this.bmp;
+	}
+
+	/**
+	 * Возвращает строку из символов набора.
+	 *
+	 * @param length количество символов (кодовых точек) в возвращаемой строке.
+	 * @return строку со случайным порядком символов.
+	 * @throws IllegalArgumentException если символы не входят в базовую многоязычную плоскость,
+	 *         а {@code length} больше половины {@link Integer#MAX_VALUE}.
+	 */
+	@NotNull
+	public String generate(final int length)
+	{
+		if (length <= 0) {
+			return "";
+		}
+
+		if (this.latin1) {
+			final byte[] string = new byte[length];
+
+			this.engine.fill(ThreadLocalRandom.current(), this.bytes, string, 0, length);
+
+			return new String(string, StandardCharsets.ISO_8859_1);
+		}
+
+		if (this.bmp) {
+			final char[] string = new char[length];
+
+			this.engine.fill(ThreadLocalRandom.current(), this.chars, string, 0, length);
+
+			return new String(string);
+		}
+
+		if (length > Integer.MAX_VALUE / 2) {
+			throw new IllegalArgumentException();
+		}
+
+		final CharBuffer string = CharBuffer.allocate(length * 2);
+
+		this.generate(length, string);
+
+		return string.flip().toString();
+	}
+
+	/**
+	 * Записывает символы набора в буфер в кодировке UTF-16.
+	 *
+	 * @param length количество символов (кодовых точек).
+	 * @param target буфер, в который записываются символы.
+	 * @throws NullPointerException если в качестве {@code target} передан {@code null}.
+	 * @throws BufferOverflowException если в буфере недостаточно места.
+	 *         В этом случае часть символов может быть записана.
+	 */
+	public void generate(final int length, @NotNull final CharBuffer target)
+	{
+		Objects.requireNonNull(target);
+
+		if (length <= 0) {
+			return;
+		}
+
+		if (this.bmp) {
+			if (target.remaining() < length) {
+				throw new BufferOverflowException();
+			}
+
+			final char[] chunk = new char[Math.min(length, CodePointCharset.CHUNK_SIZE)];
+
+			for (int written = 0; written < length; written += chunk.length) {
+				final int count = Math.min(chunk.length, length - written);
+
+				this.engine.fill(ThreadLocalRandom.current(), this.chars, chunk, 0, count);
+				target.put(chunk, 0, count);
+			}
+
+			return;
+		}
+
+		final int[] indices = new int[Math.min(length, CodePointCharset.CHUNK_SIZE)];
+
+		for (int written = 0; written < length; written += indices.length) {
+			final int count = Math.min(indices.length, length - written);
+
+			this.engine.fill(ThreadLocalRandom.current(), indices, 0, count);
+
+			for (int i = 0; i < count; i++) {
+				target.put(this.utf16, indices[i] * 2, this.utf16Length[indices[i]]);
+			}
+		}
+	}
+
+	/**
+	 * Записывает символы набора в буфер в кодировке UTF-8.
+	 *
+	 * @param length количество символов (кодовых точек).
+	 * @param target буфер, в который записываются символы.
+	 * @throws NullPointerException если в качестве {@code target} передан {@code null}.
+	 * @throws BufferOverflowException если в буфере недостаточно места.
+	 *         В этом случае часть символов может быть записана.
+	 */
+	public void generate(final int length, @NotNull final ByteBuffer target)
+	{
+		Objects.requireNonNull(target);
+
+		if (length <= 0) {
+			return;
+		}
+
+		if (this.ascii) {
+			if (target.remaining() < length) {
+				throw new BufferOverflowException();
+			}
+
+			final byte[] chunk = new byte[Math.min(length, CodePointCharset.CHUNK_SIZE)];
+
+			for (int written = 0; written < length; written += chunk.length) {
+				final int count = Math.min(chunk.length, length - written);
+
+				this.engine.fill(ThreadLocalRandom.current(), this.bytes, chunk, 0, count);
+				target.put(chunk, 0, count);
+			}
+
+			return;
+		}
+
+		final int[] indices = new int[Math.min(length, CodePointCharset.CHUNK_SIZE)];
+
+		for (int written = 0; written < length; written += indices.length) {
+			final int count = Math.min(indices.length, length - written);
+
+			this.engine.fill(ThreadLocalRandom.current(), indices, 0, count);
+
+			for (int i = 0; i < count; i++) {
+				target.put(this.utf8, indices[i] * 4, this.utf8Length[indices[i]]);
+			}
+		}
+	}
+}
@@ -0,0 +1,554 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Класс консольного генерирования строк случайных символов.
+ * <p>
+ * Наборы символов указываются флагами, соответствующими методам {@link Punt.Builder}:
+ * </p>
+ * <blockquote><pre>
+ * java -jar punt-1.14.0-jar-with-dependencies.jar --hex --length 32 --count 1000000 --output codes.txt
+ * </pre></blockquote>
+ * <p>
+ * Строки генерируются в нескольких потоках блоками и записываются в один канал.
+ * Порядок строк в выводе не определён.
+ * </p>
+ * <p>
+ * Класс является точкой входа исполняемого архива и не входит в публичный API библиотеки.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class Main
+{
+	/**
+	 * Размер блока вывода в байтах.
+	 */
+	private static final int BLOCK_SIZE = 1 << 20;
+
+	/**
+	 * Максимальное количество символов в строке.
+	 */
+	private static final int MAX_LENGTH = Main.BLOCK_SIZE;
+
+	/**
+	 * Справка по использованию.
+	 */
+	@NotNull
+	private static final String USAGE = """
+		Использование: java -jar punt-1.14.0-jar-with-dependencies.jar [наборы символов] [параметры]
+
+		Наборы символов:
+		  --binary                 цифры двоичной системы счисления
+		  --ternary                цифры троичной системы счисления
+		  --quaternary             цифры четвертичной системы счисления
+		  --octal                  цифры восьмеричной системы счисления
+		  --decimal, --digit       цифры десятеричной системы счисления
+		  --duodecimal             цифры двенадцатеричной системы счисления
+		  --hex, --hexadecimal     цифры шестнадцатеричной системы счисления
+		  --alpha                  буквы английского алфавита
+		  --special                специальные символы
+		  --personal СИМВОЛЫ       указанные символы
+		  --without СИМВОЛЫ        исключить указанные символы
+		  --without-ambiguous      исключить неоднозначные символы
+
+		Параметры:
+		  --length N               количество символов в строке (по умолчанию 16, не более 1048576)
+		  --count N                количество строк (по умолчанию 1)
+		  --threads N              количество потоков (по умолчанию количество процессоров)
+		  --format ФОРМАТ          lines, csv или binary (по умолчанию lines)
+		  --header ИМЯ             заголовок столбца для формата csv
+		  --output ФАЙЛ            файл для записи (по умолчанию стандартный вывод)
+		  --help                   вывести эту справку
+		""";
+
+	/**
+	 * Конструктор для {@code Main}.
+	 */
+	private Main() {}
+
+	/**
+	 * Генерирует строки по аргументам командной строки.
+	 *
+	 * @param args аргументы командной строки.
+	 */
+	public static void main(@NotNull final String @NotNull [] args)
+	{
+		final WritableByteChannel stdout = Channels.newChannel(new FileOutputStream(FileDescriptor.out));
+		final int status = Main.run(args, stdout, System.err);
+
+		if (status != 0) {
+			System.exit(status);
+		}
+	}
+
+	/**
+	 * Генерирует строки по аргументам командной строки.
+	 *
+	 * @param args аргументы командной строки.
+	 * @param stdout канал стандартного вывода.
+	 * @param stderr поток вывода ошибок.
+	 * @return код завершения.
+	 */
+	static int run(@NotNull final String @NotNull [] args, @NotNull final WritableByteChannel stdout,
+				   @NotNull final PrintStream stderr)
+	{
+		Objects.requireNonNull(args);
+		Objects.requireNonNull(stdout);
+		Objects.requireNonNull(stderr);
+
+		final Main.Options options;
+
+		try {
+			options = Main.Options.parse(args);
+		}
+		catch (IllegalArgumentException exception) {
+			stderr.println(exception.getMessage());
+			stderr.print(Main.USAGE);
+
+			return 2;
+		}
+
+		if (options.help) {
+			stderr.print(Main.USAGE);
+
+			return 0;
+		}
+
+		try {
+			if (options.output == null) {
+				Main.generate(options, stdout);
+			}
+			else {
+				try (FileChannel channel = FileChannel.open(options.output, StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+				{
+					Main.generate(options, channel);
+				}
+			}
+		}
+		catch (IOException | RuntimeException | Error exception) {
+			stderr.println(exception);
+
+			return 1;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Генерирует строки и записывает их в канал.
+	 *
+	 * @param options параметры генерирования.
+	 * @param channel канал, в который записываются строки.
+	 * @throws IOException если произошла ошибка записи.
+	 */
+	private static void generate(@NotNull final Main.Options options, @NotNull final WritableByteChannel channel)
+		throws IOException
+	{
+		if (options.header != null) {
+			Main.write(channel, ByteBuffer.wrap(
+				(Main.Format.escape(options.header) + "\n").getBytes(StandardCharsets.UTF_8)
+			));
+		}
+
+		final char[] alphabet = new char[options.symbols.size()];
+
+		for (int i = 0; i < alphabet.length; i++) {
+			alphabet[i] = options.symbols.get(i);
+		}
+
+		final MixedRadix engine = new MixedRadix(alphabet.length);
+		final AtomicLong remaining = new AtomicLong(options.count);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final int batch = Math.max(1, Main.BLOCK_SIZE / (options.length + 3));
+		final List<Thread> workers = new ArrayList<>();
+
+		for (int i = 0; i < options.threads; i++) {
+			final Thread worker = new Thread(() -> {
+				try {
+					final char[] chars = new char[batch * options.length];
+					final StringBuilder block = new StringBuilder(Main.BLOCK_SIZE + options.length * 3);
+
+					while (failure.get() == null) {
+						final long claimed = remaining.getAndAdd(-batch);
+
+						if (claimed <= 0) {
+							break;
+						}
+
+						final int count = (int) Math.min(batch, claimed);
+
+						engine.fill(ThreadLocalRandom.current(), alphabet, chars, 0, count * options.length);
+						block.setLength(0);
+
+						for (int j = 0; j < count; j++) {
+							options.format.append(block, chars, j * options.length, options.length);
+						}
+
+						Main.write(channel, ByteBuffer.wrap(block.toString().getBytes(StandardCharsets.UTF_8)));
+					}
+				}
+				catch (Throwable exception) {
+					failure.compareAndSet(null, exception);
+				}
+			});
+
+			workers.add(worker);
+			worker.start();
+		}
+
+		for (Thread worker : workers) {
+			try {
+				worker.join();
+			}
+			catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+
+				throw new IOException(exception);
+			}
+		}
+
+		final Throwable exception = failure.get();
+
+		if (exception instanceof IOException ioException) {
+			throw ioException;
+		}
+
+		if (exception instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+
+		if (exception instanceof Error error) {
+			throw error;
+		}
+	}
+
+	/**
+	 * Записывает буфер в канал целиком.
+	 *
+	 * @param channel канал.
+	 * @param buffer буфер.
+	 * @throws IOException если произошла ошибка записи.
+	 */
+	private static void write(@NotNull final WritableByteChannel channel, @NotNull final ByteBuffer buffer)
+		throws IOException
+	{
+		synchronized (channel) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Перечисление форматов вывода.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private enum Format
+	{
+		/**
+		 * Строки, разделённые переводом строки.
+		 */
+		LINES,
+
+		/**
+		 * Столбец CSV.
+		 */
+		CSV,
+
+		/**
+		 * Строки фиксированной длины без разделителей.
+		 */
+		BINARY;
+
+		/**
+		 * Добавляет строку в блок вывода.
+		 *
+		 * @param block блок вывода.
+		 * @param chars символы.
+		 * @param offset позиция первого символа строки.
+		 * @param length количество символов строки.
+		 */
+		private void append(@NotNull final StringBuilder block, final char @NotNull [] chars,
+							final int offset, final int length)
+		{
+			switch (this) {
+				case LINES -> block.append(chars, offset, length).append('\n');
+				case CSV -> block.append(Format.escape(new String(chars, offset, length))).append('\n');
+				case BINARY -> block.append(chars, offset, length);
+			}
+		}
+
+		/**
+		 * Возвращает значение столбца CSV.
+		 *
+		 * @param value значение.
+		 * @return значение, при необходимости заключённое в кавычки.
+		 */
+		@NotNull
+		private static String escape(@NotNull final String value)
+		{
+			if (value.chars().noneMatch(symbol -> symbol == '"' || symbol == ',' || symbol == '\n' || symbol == '\r')) {
+				return value;
+			}
+
+			return '"' + value.replace("\"", "\"\"") + '"';
+		}
+	}
+
+	/**
+	 * Класс параметров командной строки.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private static final class Options
+	{
+		/**
+		 * Символы из которых должны состоять строки.
+		 */
+		@NotNull
+		private List<@NotNull Character> symbols = List.of();
+
+		/**
+		 * Количество символов в строке.
+		 */
+		private int length = 16;
+
+		/**
+		 * Количество строк.
+		 */
+		private long count = 1;
+
+		/**
+		 * Количество потоков.
+		 */
+		private int threads = Runtime.getRuntime().availableProcessors();
+
+		/**
+		 * Формат вывода.
+		 */
+		@NotNull
+		private Main.Format format = Main.Format.LINES;
+
+		/**
+		 * Заголовок столбца CSV.
+		 */
+		@Nullable
+		private String header;
+
+		/**
+		 * Файл для записи.
+		 */
+		@Nullable
+		private Path output;
+
+		/**
+		 * Признак вывода справки.
+		 */
+		private boolean help;
+
+		/**
+		 * Возвращает параметры из аргументов командной строки.
+		 *
+		 * @param args аргументы командной строки.
+		 * @return параметры.
+		 * @throws IllegalArgumentException если аргументы некорректны.
+		 */
+		@NotNull
+		private static Main.Options parse(@NotNull final String @NotNull [] args)
+		{
+			final Main.Options options = new Main.Options();
+			final Punt.Builder builder = new Punt.Builder();
+
+			for (int i = 0; i < args.length; i++) {
+				final String arg = args[i];
+
+				switch (arg) {
+					case "--binary" -> builder.withBinary();
+					case "--ternary" -> builder.withTernary();
+					case "--quaternary" -> builder.withQuaternary();
+					case "--octal" -> builder.withOctal();
+					case "--decimal" -> builder.withDecimal();
+					case "--digit" -> builder.withDigit();
+					case "--duodecimal" -> builder.withDuodecimal();
+					case "--hex", "--hexadecimal" -> builder.withHexadecimal();
+					case "--alpha" -> builder.withAlpha();
+					case "--special" -> builder.withSpecial();
+					case "--personal" -> builder.withPersonal(Options.toSymbols(Options.value(args, ++i, arg)));
+					case "--without" -> builder.without(Options.toSymbols(Options.value(args, ++i, arg)));
+					case "--without-ambiguous" -> builder.withoutAmbiguous();
+					case "--length" -> options.length = Options.toInt(Options.value(args, ++i, arg), arg);
+					case "--count" -> options.count = Options.toLong(Options.value(args, ++i, arg), arg);
+					case "--threads" -> options.threads = Options.toInt(Options.value(args, ++i, arg), arg);
+					case "--format" -> options.format = Options.toFormat(Options.value(args, ++i, arg));
+					case "--header" -> options.header = Options.value(args, ++i, arg);
+					case "--output" -> options.output = Path.of(Options.value(args, ++i, arg));
+					case "--help" -> options.help = true;
+					default -> throw new IllegalArgumentException("Неизвестный аргумент: " + arg);
+				}
+			}
+
+			options.symbols = builder.compile();
+
+			if (!options.help && options.symbols.isEmpty()) {
+				throw new IllegalArgumentException("Не указаны наборы символов.");
+			}
+
+			if (options.length < 1 || options.count < 0 || options.threads < 1) {
+				throw new IllegalArgumentException("Значения --length и --threads должны быть положительными, --count неотрицательным.");
+			}
+
+			if (options.length > Main.MAX_LENGTH) {
+				throw new IllegalArgumentException("Значение --length не должно превышать " + Main.MAX_LENGTH + ".");
+			}
+
+			if (options.header != null && options.format != Main.Format.CSV) {
+				throw new IllegalArgumentException("Аргумент --header допустим только для формата csv.");
+			}
+
+			if (options.format == Main.Format.BINARY && options.symbols.stream().anyMatch(symbol -> symbol > 0x7F)) {
+				throw new IllegalArgumentException("Формат binary допускает только символы ASCII.");
+			}
+
+			return options;
+		}
+
+		/**
+		 * Возвращает значение аргумента.
+		 *
+		 * @param args аргументы командной строки.
+		 * @param index позиция значения.
+		 * @param name название аргумента.
+		 * @return значение.
+		 * @throws IllegalArgumentException если значение отсутствует.
+		 */
+		@NotNull
+		private static String value(@NotNull final String @NotNull [] args, final int index, @NotNull final String name)
+		{
+			if (index >= args.length) {
+				throw new IllegalArgumentException("Не указано значение аргумента " + name);
+			}
+
+			return args[index];
+		}
+
+		/**
+		 * Возвращает символы строки.
+		 *
+		 * @param value строка.
+		 * @return символы.
+		 */
+		@NotNull
+		private static List<@NotNull Character> toSymbols(@NotNull final String value)
+		{
+			final List<Character> symbols = new ArrayList<>();
+
+			for (char symbol : value.toCharArray()) {
+				symbols.add(symbol);
+			}
+
+			return symbols;
+		}
+
+		/**
+		 * Возвращает целое число.
+		 *
+		 * @param value строка.
+		 * @param name название аргумента.
+		 * @return число.
+		 * @throws IllegalArgumentException если строка не является числом.
+		 */
+		private static int toInt(@NotNull final String value, @NotNull final String name)
+		{
+			final long number = Options.toLong(value, name);
+
+			if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Некорректное значение аргумента " + name + ": " + value);
+			}
+
+			return (int) number;
+		}
+
+		/**
+		 * Возвращает целое число.
+		 *
+		 * @param value строка.
+		 * @param name название аргумента.
+		 * @return число.
+		 * @throws IllegalArgumentException если строка не является числом.
+		 */
+		private static long toLong(@NotNull final String value, @NotNull final String name)
+		{
+			try {
+				return Long.parseLong(value);
+			}
+			catch (NumberFormatException exception) {
+				throw new IllegalArgumentException("Некорректное значение аргумента " + name + ": " + value);
+			}
+		}
+
+		/**
+		 * Возвращает формат вывода.
+		 *
+		 * @param value название формата.
+		 * @return формат вывода.
+		 * @throws IllegalArgumentException если формат неизвестен.
+		 */
+		@NotNull
+		private static Main.Format toFormat(@NotNull final String value)
+		{
+			return switch (value) {
+				case "lines" -> Main.Format.LINES;
+				case "csv" -> Main.Format.CSV;
+				case "binary" -> Main.Format.BINARY;
+				default -> throw new IllegalArgumentException("Неизвестный формат: " + value);
+			};
+		}
+	}
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Класс выборки случайных цифр системы счисления с произвольным основанием.
+ * <p>
+ * Одно случайное 64-битное число используется для получения сразу блока из
+ * {@link #digits} цифр. Цифры извлекаются последовательным беззнаковым
+ * умножением дробной части на основание без операций деления. Числа,
+ * приводящие к смещению распределения, отбрасываются по порогу, который
+ * вычисляется один раз при создании объекта, поэтому выборка строго равномерна.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class MixedRadix
+{
+	/**
+	 * Основание системы счисления.
+	 */
+	private final int radix;
+
+	/**
+	 * Количество цифр, получаемых из одного случайного числа.
+	 */
+	private final int digits;
+
+	/**
+	 * Количество равновероятных блоков цифр.
+	 * <p>
+	 * Равно {@code radix}<sup>{@code digits}</sup> и рассматривается как беззнаковое число.
+	 * </p>
+	 */
+	private final long range;
+
+	/**
+	 * Порог отбрасывания случайных чисел.
+	 * <p>
+	 * Равен остатку от деления 2<sup>64</sup> на {@link #range}.
+	 * </p>
+	 */
+	private final long threshold;
+
+	/**
+	 * Конструктор для {@code MixedRadix}.
+	 *
+	 * @param radix основание системы счисления.
+	 * @throws IllegalArgumentException если значение {@code radix} меньше единицы.
+	 */
+	MixedRadix(final int radix)
+	{
+		if (radix < 1) {
+			throw new IllegalArgumentException();
+		}
+
+		int digits = 0;
+		long range = 1L;
+
+		while (digits < Long.SIZE && MixedRadix.multiplyHighUnsigned(range, radix) == 0L) {
+			range *= radix;
+			digits++;
+		}
+
+		this.radix = radix;
+		this.digits = digits;
+		this.range = range;
+		this.threshold = Long.remainderUnsigned(-range, range);
+	}
+
+	/**
+	 * Возвращает основание системы счисления.
+	 *
+	 * @return основание системы счисления.
+	 */
+	int getRadix()
+	{
+		return this.radix;
+	}
+
+	/**
+	 * Возвращает количество цифр, получаемых из одного случайного числа.
+	 *
+	 * @return количество цифр.
+	 */
+	int getDigits()
+	{
+		return this.digits;
+	}
+
+	/**
+	 * Заполняет массив случайными цифрами.
+	 *
+	 * @param random генератор случайных чисел.
+	 * @param target массив, в который записываются цифры.
+	 * @param offset позиция в {@code target}, с которой начинается запись.
+	 * @param length количество записываемых цифр.
+	 * @throws NullPointerException если в качестве {@code random} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code target} передан {@code null}.
+	 */
+	void fill(@NotNull final RandomGenerator random, final int @NotNull [] target, final int offset, final int length)
+	{
+		Objects.requireNonNull(random);
+		Objects.requireNonNull(target);
+		Objects.checkFromIndexSize(offset, length, target.length);
+
+		int position = offset;
+		int remaining = length;
+
+		while (remaining > 0) {
+			final int count = Math.min(remaining, this.digits);
+			long fraction = this.nextFraction(random);
+
+			for (int i = 0; i < count; i++) {
+				target[position++] = (int) MixedRadix.multiplyHighUnsigned(fraction, this.radix);
+				fraction *= this.radix;
+			}
+
+			remaining -= count;
+		}
+	}
+
+	/**
+	 * Заполняет массив случайными символами.
+	 *
+	 * @param random генератор случайных чисел.
+	 * @param symbols символы, индексами которых являются цифры.
+	 * @param target массив, в который записываются символы.
+	 * @param offset позиция в {@code target}, с которой начинается запись.
+	 * @param length количество записываемых символов.
+	 * @throws NullPointerException если в качестве {@code random} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code target} передан {@code null}.
+	 * @throws IllegalArgumentException если количество {@code symbols} не равно основанию.
+	 */
+	void fill(@NotNull final RandomGenerator random, final char @NotNull [] symbols,
+			  final char @NotNull [] target, final int offset, final int length)
+	{
+		Objects.requireNonNull(random);
+		Objects.requireNonNull(symbols);
+		Objects.requireNonNull(target);
+		Objects.checkFromIndexSize(offset, length, target.length);
+
+		if (symbols.length != this.radix) {
+			throw new IllegalArgumentException();
+		}
+
+		int position = offset;
+		int remaining = length;
+
+		while (remaining > 0) {
+			final int count = Math.min(remaining, this.digits);
+			long fraction = this.nextFraction(random);
+
+			for (int i = 0; i < count; i++) {
+				target[position++] = symbols[(int) MixedRadix.multiplyHighUnsigned(fraction, this.radix)];
+				fraction *= this.radix;
+			}
+
+			remaining -= count;
+		}
+	}
+
+	/**
+	 * Заполняет массив случайными однобайтовыми символами.
+	 *
+	 * @param random генератор случайных чисел.
+	 * @param symbols символы, индексами которых являются цифры.
+	 * @param target массив, в который записываются символы.
+	 * @param offset позиция в {@code target}, с которой начинается запись.
+	 * @param length количество записываемых символов.
+	 * @throws NullPointerException если в качестве {@code random} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code target} передан {@code null}.
+	 * @throws IllegalArgumentException если количество {@code symbols} не равно основанию.
+	 */
+	void fill(@NotNull final RandomGenerator random, final byte @NotNull [] symbols,
+			  final byte @NotNull [] target, final int offset, final int length)
+	{
+		Objects.requireNonNull(random);
+		Objects.requireNonNull(symbols);
+		Objects.requireNonNull(target);
+		Objects.checkFromIndexSize(offset, length, target.length);
+
+		if (symbols.length != this.radix) {
+			throw new IllegalArgumentException();
+		}
+
+		int position = offset;
+		int remaining = length;
+
+		while (remaining > 0) {
+			final int count = Math.min(remaining, this.digits);
+			long fraction = this.nextFraction(random);
+
+			for (int i = 0; i < count; i++) {
+				target[position++] = symbols[(int) MixedRadix.multiplyHighUnsigned(fraction, this.radix)];
+				fraction *= this.radix;
+			}
+
+			remaining -= count;
+		}
+	}
+
+	/**
+	 * Возвращает случайное число, цифры которого распределены равномерно.
+	 * <p>
+	 * Число рассматривается как дробь со знаменателем 2<sup>64</sup>.
+	 * Первые {@link #digits} цифр её записи в системе счисления с основанием
+	 * {@link #radix} совпадают с цифрами целой части произведения числа на
+	 * {@link #range}, а младшие 64 бита этого произведения
+	 * определяют, следует ли отбросить число.
+	 * </p>
+	 *
+	 * @param random генератор случайных чисел.
+	 * @return случайное число.
+	 */
+	private long nextFraction(@NotNull final RandomGenerator random)
+	{
+		while (true) {
+			final long fraction = random.nextLong();
+
+			if (this.accepts(fraction)) {
+				return fraction;
+			}
+		}
+	}
+
+	/**
+	 * Проверяет, можно ли использовать случайное число без смещения распределения.
+	 *
+	 * @param fraction случайное число.
+	 * @return {@code true}, если число не требуется отбросить, иначе {@code false}.
+	 */
+	boolean accepts(final long fraction)
+	{
+		return Long.compareUnsigned(fraction * this.range, this.threshold) >= 0;
+	}
+
+	/**
+	 * Возвращает цифру случайного числа.
+	 *
+	 * @param fraction случайное число, принятое методом {@link #accepts(long)}.
+	 * @param position позиция цифры, от нуля до {@link #getDigits()} не включительно.
+	 * @return цифру.
+	 */
+	int digit(final long fraction, final int position)
+	{
+		long rest = fraction;
+
+		for (int i = 0; i < position; i++) {
+			rest *= this.radix;
+		}
+
+		return (int) MixedRadix.multiplyHighUnsigned(rest, this.radix);
+	}
+
+	/**
+	 * Возвращает старшие 64 бита беззнакового произведения.
+	 *
+	 * @param value беззнаковый множитель.
+	 * @param radix положительный множитель.
+	 * @return старшие 64 бита произведения.
+	 */
+	static long multiplyHighUnsigned(final long value, final int radix)
+	{
+		return Math.multiplyHigh(value, radix) + ((value >> 63) & radix);
+	}
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Класс генерирования уникальных строк на нескольких узлах без согласования.
+ * <p>
+ * Каждая строка имеет фиксированную длину и состоит из трёх частей,
+ * записанных цифрами системы счисления с основанием, равным количеству символов:
+ * </p>
+ * <ol>
+ *     <li>номера узла;</li>
+ *     <li>монотонно возрастающего значения — количества миллисекунд от
+ *     {@link #EPOCH}, умноженного на {@value #TICKS_PER_MILLISECOND}, но не меньше
+ *     предыдущего значения, увеличенного на единицу;</li>
+ *     <li>случайных символов.</li>
+ * </ol>
+ * <p>
+ * Строки разных узлов различаются номером узла, а строки одного узла —
+ * возрастающим значением, поэтому их уникальность не зависит от вероятности.
+ * Символы упорядочиваются по возрастанию, поэтому строки одного узла
+ * упорядочены по времени создания.
+ * </p>
+ * <p>
+ * Количество символов возрастающего значения должно вмещать значения на
+ * {@value #LIFETIME_DAYS} дней от {@link #EPOCH}, иначе конструктор выбрасывает
+ * исключение. Например, для шестнадцатеричных цифр требуется не менее 13 символов,
+ * для десятичных — 16, для 62 символов — 9. Если значение всё же превысит
+ * вместимость, метод {@link #generate()} выбрасывает исключение, а не повторяет
+ * значения.
+ * </p>
+ * <p>
+ * Все узлы должны использовать одинаковые символы, длину строки, количество
+ * символов номера узла и количество символов возрастающего значения. При разном
+ * количестве символов номера узла номера пересекаются, например «0» и «05»,
+ * и уникальность строк разных узлов не гарантируется.
+ * </p>
+ * <p>
+ * Все объекты с одинаковыми символами, длиной строки, номером узла и количеством
+ * символов возрастающего значения в пределах процесса используют общее
+ * возрастающее значение, поэтому их строки также не совпадают. Общие значения
+ * хранятся до завершения процесса, их количество равно количеству различных
+ * сочетаний этих параметров. Каждый номер узла должен одновременно
+ * использоваться только одним процессом.
+ * Возрастающее значение не сохраняется между запусками: если процесс в среднем
+ * генерировал больше {@value #TICKS_PER_MILLISECOND} строк в миллисекунду, его
+ * значение опережало время, и перед повторным запуском с тем же номером узла
+ * нужно дождаться, пока время догонит последнее выданное значение.
+ * </p>
+ * <p>
+ * Объект безопасен для использования из нескольких потоков без блокировок.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class PartitionedGenerator
+{
+	/**
+	 * Начало отсчёта времени — 1 января 2024 года 00:00:00 UTC в миллисекундах.
+	 */
+	public static final long EPOCH = 1_704_067_200_000L;
+
+	/**
+	 * Количество значений на одну миллисекунду.
+	 */
+	public static final long TICKS_PER_MILLISECOND = 1000L;
+
+	/**
+	 * Количество дней от {@link #EPOCH}, на которое должно хватать возрастающего значения.
+	 */
+	public static final long LIFETIME_DAYS = 18_262L;
+
+	/**
+	 * Общие возрастающие значения по символам, длине строки, номеру узла и
+	 * количеству символов возрастающего значения.
+	 */
+	@NotNull
+	private static final ConcurrentMap<@NotNull String, @NotNull AtomicLong> COUNTERS = new ConcurrentHashMap<>();
+
+	/**
+	 * Системный источник времени в миллисекундах.
+	 */
+	@NotNull
+	private static final LongSupplier SYSTEM_CLOCK = System::currentTimeMillis;
+
+	/**
+	 * Символы из которых состоят строки.
+	 */
+	private final char @NotNull [] symbols;
+
+	/**
+	 * Количество символов в строке.
+	 */
+	private final int length;
+
+	/**
+	 * Символы номера узла.
+	 */
+	private final char @NotNull [] node;
+
+	/**
+	 * Количество символов возрастающего значения.
+	 */
+	private final int counterWidth;
+
+	/**
+	 * Количество различных возрастающих значений.
+	 */
+	private final long capacity;
+
+	/**
+	 * Последнее выданное возрастающее значение.
+	 */
+	@NotNull
+	private final AtomicLong counter;
+
+	/**
+	 * Источник времени в миллисекундах.
+	 */
+	@NotNull
+	private final LongSupplier clock;
+
+	/**
+	 * Генератор случайных символов.
+	 */
+	@NotNull
+	private final MixedRadix engine;
+
+	/**
+	 * Конструктор для {@code PartitionedGenerator}.
+	 *
+	 * @param symbols символы из которых должны состоять строки.
+	 * @param length количество символов в строке.
+	 * @param nodeId номер узла.
+	 * @param nodeWidth количество символов номера узла.
+	 * @param counterWidth количество символов возрастающего значения.
+	 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+	 * @throws IllegalArgumentException если различных {@code symbols} меньше двух.
+	 * @throws IllegalArgumentException если значения {@code nodeWidth} или {@code counterWidth} меньше единицы.
+	 * @throws IllegalArgumentException если значение {@code length} меньше суммы {@code nodeWidth} и {@code counterWidth}.
+	 * @throws IllegalArgumentException если {@code nodeId} отрицательный или не помещается в {@code nodeWidth} символов.
+	 * @throws IllegalArgumentException если {@code counterWidth} символов не вмещают значения на {@link #LIFETIME_DAYS} дней.
+	 */
+	public PartitionedGenerator(@NotNull final Collection<@NotNull Character> symbols, final int length,
+								final long nodeId, final int nodeWidth, final int counterWidth)
+	{
+		this(symbols, length, nodeId, nodeWidth, counterWidth, PartitionedGenerator.SYSTEM_CLOCK);
+	}
+
+	/**
+	 * Конструктор для {@code PartitionedGenerator}.
+	 * <p>
+	 * Объект с источником времени, отличным от системного, использует
+	 * собственное возрастающее значение, а не общее значение процесса.
+	 * </p>
+	 *
+	 * @param symbols символы из которых должны состоять строки.
+	 * @param length количество символов в строке.
+	 * @param nodeId номер узла.
+	 * @param nodeWidth количество символов номера узла.
+	 * @param counterWidth количество символов возрастающего значения.
+	 * @param clock источник времени в миллисекундах.
+	 */
+	PartitionedGenerator(@NotNull final Collection<@NotNull Character> symbols, final int length,
+						 final long nodeId, final int nodeWidth, final int counterWidth,
+						 @NotNull final LongSupplier clock)
+	{
+		Objects.requireNonNull(symbols);
+		Objects.requireNonNull(clock);
+
+		final TreeSet<Character> sorted = new TreeSet<>(symbols);
+
+		if (sorted.size() < 2 || nodeWidth < 1 || counterWidth < 1 || nodeId < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		if (length < nodeWidth || length - nodeWidth < counterWidth) {
+			throw new IllegalArgumentException();
+		}
+
+		this.symbols = new char[sorted.size()];
+
+		int index = 0;
+
+		for (Character symbol : sorted) {
+			this.symbols[index++] = symbol;
+		}
+
+		this.node = new char[nodeWidth];
+
+		if (PartitionedGenerator.encode(nodeId, this.symbols, this.node, 0, nodeWidth) != 0) {
+			throw new IllegalArgumentException();
+		}
+
+		this.capacity = PartitionedGenerator.power(this.symbols.length, counterWidth);
+
+		final long lifetime = TimeUnit.DAYS.toMillis(PartitionedGenerator.LIFETIME_DAYS)
+			* PartitionedGenerator.TICKS_PER_MILLISECOND;
+
+		if (this.capacity <= lifetime) {
+			throw new IllegalArgumentException();
+		}
+
+		this.length = length;
+		this.counterWidth = counterWidth;
+		if (clock == PartitionedGenerator.SYSTEM_CLOCK) {
+			final String key = new String(this.symbols) + '\u0000' + new String(this.node)
+				+ '\u0000' + length + '\u0000' + counterWidth;
+
+			this.counter = PartitionedGenerator.COUNTERS.computeIfAbsent(key, k -> new AtomicLong());
+		} else {
+			this.counter = new AtomicLong();
+		}
+		this.clock = clock;
+		this.engine = new MixedRadix(this.symbols.length);
+	}
+
+	/**
+	 * Возвращает количество символов в строке.
+	 *
+	 * @return количество символов в строке.
+	 */
+	public int getLength()
+	{
+		return this.length;
+	}
+
+	/**
+	 * Возвращает номер узла в виде символов.
+	 *
+	 * @return начало каждой строки этого узла.
+	 */
+	@NotNull
+	public String getNode()
+	{
+		return new String(this.node);
+	}
+
+	/**
+	 * Возвращает уникальную строку.
+	 *
+	 * @return строку из номера узла, возрастающего значения и случайных символов.
+	 * @throws IllegalStateException если возрастающее значение превысило вместимость своей части строки.
+	 */
+	@NotNull
+	public String generate()
+	{
+		final char[] string = new char[this.length];
+		final int nodeWidth = this.node.length;
+		final int randomOffset = nodeWidth + this.counterWidth;
+
+		System.arraycopy(this.node, 0, string, 0, nodeWidth);
+		PartitionedGenerator.encode(this.nextCounter(), this.symbols, string, nodeWidth, this.counterWidth);
+		this.engine.fill(ThreadLocalRandom.current(), this.symbols, string, randomOffset, this.length - randomOffset);
+
+		return new String(string);
+	}
+
+	/**
+	 * Возвращает следующее возрастающее значение.
+	 * <p>
+	 * Значение равно количеству миллисекунд от {@link #EPOCH}, умноженному на
+	 * {@link #TICKS_PER_MILLISECOND}, но не меньше предыдущего значения,
+	 * увеличенного на единицу.
+	 * </p>
+	 *
+	 * @return возрастающее значение.
+	 * @throws IllegalStateException если значение превысило вместимость своей части строки.
+	 */
+	private long nextCounter()
+	{
+		final long now = Math.max(0L, this.clock.getAsLong() - PartitionedGenerator.EPOCH)
+			* PartitionedGenerator.TICKS_PER_MILLISECOND;
+
+		while (true) {
+			final long previous = this.counter.get();
+			final long next = Math.max(previous + 1, now);
+
+			if (next >= this.capacity) {
+				throw new IllegalStateException();
+			}
+
+			if (this.counter.compareAndSet(previous, next)) {
+				return next;
+			}
+		}
+	}
+
+	/**
+	 * Возвращает степень числа, но не более {@link Long#MAX_VALUE}.
+	 *
+	 * @param base основание.
+	 * @param exponent показатель степени.
+	 * @return степень числа.
+	 */
+	private static long power(final long base, final int exponent)
+	{
+		long result = 1;
+
+		for (int i = 0; i < exponent; i++) {
+			if (result > Long.MAX_VALUE / base) {
+				return Long.MAX_VALUE;
+			}
+
+			result *= base;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Записывает младшие цифры числа символами.
+	 *
+	 * @param value неотрицательное число.
+	 * @param symbols символы цифр.
+	 * @param target массив, в который записываются символы.
+	 * @param offset позиция в {@code target}, с которой начинается запись.
+	 * @param width количество записываемых цифр.
+	 * @return часть числа, не поместившуюся в {@code width} цифр.
+	 */
+	private static long encode(final long value, final char @NotNull [] symbols,
+							   final char @NotNull [] target, final int offset, final int width)
+	{
+		long rest = value;
+
+		for (int i = offset + width - 1; i >= offset; i--) {
+			target[i] = symbols[(int) (rest % symbols.length)];
+			rest /= symbols.length;
+		}
+
+		return rest;
+	}
+}
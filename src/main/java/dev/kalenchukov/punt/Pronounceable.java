@@ -0,0 +1,323 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import dev.kalenchukov.alphabet.Alphabetical;
+import dev.kalenchukov.alphabet.EnglishAlphabet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Класс генерирования произносимых строк случайных символов.
+ * <p>
+ * Строка составляется из слогов, каждый из которых следует шаблону из
+ * согласных ({@code 'C'}) и гласных ({@code 'V'}) букв, например
+ * {@code "CV"} или {@code "CVC"}. При создании объекта все возможные слоги
+ * заносятся в таблицу, поэтому каждый слог выбирается одним равновероятным
+ * индексом, без отбрасывания сгенерированных строк. Энтропия слога равна
+ * двоичному логарифму количества слогов в таблице.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class Pronounceable
+{
+	/**
+	 * Шаблон слога по умолчанию.
+	 */
+	@NotNull
+	public static final String PATTERN = "CV";
+
+	/**
+	 * Коллекция гласных букв английского алфавита.
+	 * <p>
+	 * Гласными буквами являются:
+	 * <blockquote><pre>
+	 * 'a', 'e', 'i', 'o', 'u'
+	 * </pre></blockquote>
+	 */
+	@NotNull
+	@Unmodifiable
+	public static final Collection<@NotNull Character> ENGLISH_VOWELS = Set.of(
+		'a', 'e', 'i', 'o', 'u'
+	);
+
+	/**
+	 * Обозначение согласной буквы в шаблоне слога.
+	 */
+	private static final char CONSONANT = 'C';
+
+	/**
+	 * Обозначение гласной буквы в шаблоне слога.
+	 */
+	private static final char VOWEL = 'V';
+
+	/**
+	 * Максимальное количество символов в таблице слогов.
+	 */
+	private static final int MAX_TABLE_SIZE = 1 << 20;
+
+	/**
+	 * Таблица слогов.
+	 * <p>
+	 * Слог с индексом {@code i} занимает символы с {@code i * width}
+	 * по {@code (i + 1) * width} не включительно.
+	 * </p>
+	 */
+	private final char @NotNull [] table;
+
+	/**
+	 * Количество символов в слоге.
+	 */
+	private final int width;
+
+	/**
+	 * Генератор индексов слогов.
+	 */
+	@NotNull
+	private final MixedRadix engine;
+
+	/**
+	 * Конструктор для {@code Pronounceable}.
+	 * <p>
+	 * Используются буквы английского алфавита и шаблон слога {@link #PATTERN}.
+	 * </p>
+	 */
+	public Pronounceable()
+	{
+		this(Pronounceable.PATTERN);
+	}
+
+	/**
+	 * Конструктор для {@code Pronounceable}.
+	 * <p>
+	 * Используются буквы английского алфавита.
+	 * </p>
+	 *
+	 * @param pattern шаблон слога.
+	 * @throws NullPointerException если в качестве {@code pattern} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code pattern} пустой или содержит символы кроме {@code 'C'} и {@code 'V'}.
+	 * @throws IllegalArgumentException если таблица слогов слишком велика.
+	 */
+	public Pronounceable(@NotNull final String pattern)
+	{
+		this(new EnglishAlphabet(), Pronounceable.ENGLISH_VOWELS, pattern);
+	}
+
+	/**
+	 * Конструктор для {@code Pronounceable}.
+	 * <p>
+	 * Если алфавит содержит строчные буквы, используются только они.
+	 * Буквы, отсутствующие в {@code vowels}, считаются согласными.
+	 * </p>
+	 *
+	 * @param alphabet алфавит.
+	 * @param vowels гласные буквы алфавита.
+	 * @param pattern шаблон слога.
+	 * @throws NullPointerException если в качестве {@code alphabet} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code vowels} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code pattern} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code pattern} пустой или содержит символы кроме {@code 'C'} и {@code 'V'}.
+	 * @throws IllegalArgumentException если в алфавите нет букв, требуемых шаблоном.
+	 * @throws IllegalArgumentException если таблица слогов слишком велика.
+	 */
+	public Pronounceable(@NotNull final Alphabetical alphabet,
+						 @NotNull final Collection<@NotNull Character> vowels,
+						 @NotNull final String pattern)
+	{
+		Objects.requireNonNull(alphabet);
+		Objects.requireNonNull(vowels);
+		Objects.requireNonNull(pattern);
+
+		if (pattern.isEmpty()) {
+			throw new IllegalArgumentException();
+		}
+
+		final Set<Character> vowelSet = new HashSet<>();
+
+		for (Character vowel : vowels) {
+			vowelSet.add(Character.toLowerCase(vowel));
+		}
+
+		final Set<Character> letters = Pronounceable.getLetters(alphabet.toList());
+		final List<Character> vowelLetters = new ArrayList<>();
+		final List<Character> consonantLetters = new ArrayList<>();
+
+		for (Character letter : letters) {
+			if (vowelSet.contains(Character.toLowerCase(letter))) {
+				vowelLetters.add(letter);
+			} else {
+				consonantLetters.add(letter);
+			}
+		}
+
+		final char[][] classes = new char[pattern.length()][];
+		long syllables = 1;
+
+		for (int i = 0; i < pattern.length(); i++) {
+			classes[i] = switch (pattern.charAt(i)) {
+				case Pronounceable.CONSONANT -> Pronounceable.toArray(consonantLetters);
+				case Pronounceable.VOWEL -> Pronounceable.toArray(vowelLetters);
+				default -> throw new IllegalArgumentException();
+			};
+
+			syllables *= classes[i].length;
+
+			if (syllables == 0 || syllables * pattern.length() > Pronounceable.MAX_TABLE_SIZE) {
+				throw new IllegalArgumentException();
+			}
+		}
+
+		this.width = pattern.length();
+		this.table = Pronounceable.compile(classes, (int) syllables);
+		this.engine = new MixedRadix((int) syllables);
+	}
+
+	/**
+	 * Возвращает количество различных слогов.
+	 *
+	 * @return количество слогов.
+	 */
+	public int getSyllables()
+	{
+		return this.engine.getRadix();
+	}
+
+	/**
+	 * Возвращает энтропию одного слога.
+	 *
+	 * @return энтропию слога в битах.
+	 */
+	public double getEntropy()
+	{
+		return Math.log(this.engine.getRadix()) / Math.log(2);
+	}
+
+	/**
+	 * Возвращает произносимую строку.
+	 * <p>
+	 * Если {@code length} не кратно длине слога, последний слог обрезается.
+	 * Длина ограничена максимальным размером массива виртуальной машины.
+	 * </p>
+	 *
+	 * @param length количество символов в возвращаемой строке.
+	 * @return строку из случайных слогов.
+	 * @throws OutOfMemoryError если строку длиной {@code length} невозможно разместить в памяти.
+	 */
+	@NotNull
+	public String generate(final int length)
+	{
+		if (length <= 0) {
+			return "";
+		}
+
+		final int count = (int) (((long) length + this.width - 1) / this.width);
+		final int[] indices = new int[count];
+		final char[] string = new char[length];
+
+		this.engine.fill(ThreadLocalRandom.current(), indices, 0, count);
+
+		for (int i = 0; i < count; i++) {
+			final int offset = i * this.width;
+			final int size = Math.min(this.width, length - offset);
+
+			System.arraycopy(this.table, indices[i] * this.width, string, offset, size);
+		}
+
+		return new String(string);
+	}
+
+	/**
+	 * Возвращает буквы алфавита без повторов.
+	 * <p>
+	 * Если среди букв есть строчные, возвращаются только они.
+	 * </p>
+	 *
+	 * @param letters буквы алфавита.
+	 * @return буквы алфавита.
+	 */
+	@NotNull
+	private static Set<@NotNull Character> getLetters(@NotNull final List<@NotNull Character> letters)
+	{
+		final Set<Character> lowerCase = new LinkedHashSet<>();
+
+		for (Character letter : letters) {
+			if (Character.isLowerCase(letter)) {
+				lowerCase.add(letter);
+			}
+		}
+
+		return lowerCase.isEmpty() ? new LinkedHashSet<>(letters) : lowerCase;
+	}
+
+	/**
+	 * Возвращает массив символов.
+	 *
+	 * @param symbols символы.
+	 * @return массив символов.
+	 */
+	private static char @NotNull [] toArray(@NotNull final List<@NotNull Character> symbols)
+	{
+		final char[] array = new char[symbols.size()];
+
+		for (int i = 0; i < array.length; i++) {
+			array[i] = symbols.get(i);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Составляет таблицу всех слогов.
+	 * <p>
+	 * Индекс слога является числом со смешанным основанием, цифры которого
+	 * указывают на буквы соответствующих позиций шаблона.
+	 * </p>
+	 *
+	 * @param classes буквы для каждой позиции шаблона.
+	 * @param syllables количество слогов.
+	 * @return таблицу слогов.
+	 */
+	private static char @NotNull [] compile(final char @NotNull [] @NotNull [] classes, final int syllables)
+	{
+		final char[] table = new char[syllables * classes.length];
+
+		for (int syllable = 0; syllable < syllables; syllable++) {
+			int rest = syllable;
+
+			for (int position = classes.length - 1; position >= 0; position--) {
+				final char[] letters = classes[position];
+
+				table[syllable * classes.length + position] = letters[rest % letters.length];
+				rest /= letters.length;
+			}
+		}
+
+		return table;
+	}
+}
@@ -31,6 +31,7 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Класс содержит статические методы для получения строк случайных символов.
@@ -60,6 +61,92 @@ public final class Punt
 		'\\', '|', '`', '~', '[', ']', '{', '}', '"', '<', '>'
 	);
 
+	/**
+	 * Коллекция неоднозначных символов.
+	 * <p>
+	 * Неоднозначными символами являются похожие друг на друга при чтении символы:
+	 * <blockquote><pre>
+	 * '&#48;', '&#79;', '&#49;', '&#108;', '&#73;', '&#124;',
+	 * '&#39;', '&#34;', '&#96;', '&#92;'
+	 * </pre></blockquote>
+	 * </p>
+	 */
+	@NotNull
+	@Unmodifiable
+	private static final Collection<@NotNull Character> AMBIGUOUS = Set.of(
+		'0', 'O', '1', 'l', 'I', '|', '\'', '"', '`', '\\'
+	);
+
+	/**
+	 * Набор цифр двоичной системы счисления.
+	 */
+	@NotNull
+	private static final SymbolSet BINARY = SymbolSet.of(BinarySystem.DIGITS);
+
+	/**
+	 * Набор цифр троичной системы счисления.
+	 */
+	@NotNull
+	private static final SymbolSet TERNARY = SymbolSet.of(TernarySystem.DIGITS);
+
+	/**
+	 * Набор цифр четвертичной системы счисления.
+	 */
+	@NotNull
+	private static final SymbolSet QUATERNARY = SymbolSet.of(QuaternarySystem.DIGITS);
+
+	/**
+	 * Набор цифр восьмеричной системы счисления.
+	 */
+	@NotNull
+	private static final SymbolSet OCTAL = SymbolSet.of(OctalSystem.DIGITS);
+
+	/**
+	 * Набор цифр десятеричной системы счисления.
+	 */
+	@NotNull
+	private static final SymbolSet DECIMAL = SymbolSet.of(DecimalSystem.DIGITS);
+
+	/**
+	 * Набор цифр двенадцатеричной системы счисления.
+	 */
+	@NotNull
+	private static final SymbolSet DUODECIMAL = SymbolSet.of(DuodecimalSystem.DIGITS);
+
+	/**
+	 * Набор цифр шестнадцатеричной системы счисления.
+	 */
+	@NotNull
+	private static final SymbolSet HEXADECIMAL = SymbolSet.of(HexadecimalSystem.DIGITS);
+
+	/**
+	 * Набор букв английского алфавита.
+	 */
+	@NotNull
+	private static final SymbolSet ALPHA = SymbolSet.of(EnglishAlphabet.LETTERS);
+
+	/**
+	 * Набор специальных символов.
+	 *
+	 * @see Punt#SPECIAL
+	 */
+	@NotNull
+	private static final SymbolSet SPECIAL_SET = SymbolSet.of(Punt.SPECIAL);
+
+	/**
+	 * Набор неоднозначных символов.
+	 *
+	 * @see Punt#AMBIGUOUS
+	 */
+	@NotNull
+	private static final SymbolSet AMBIGUOUS_SET = SymbolSet.of(Punt.AMBIGUOUS);
+
+	/**
+	 * Генератор произносимых строк из букв английского алфавита.
+	 */
+	@NotNull
+	private static final Pronounceable PRONOUNCEABLE = new Pronounceable();
+
 	/**
 	 * Конструктор для {@code Punt}.
 	 */
@@ -74,7 +161,7 @@ public final class Punt
 	@NotNull
 	public static String getBinary(final int length)
 	{
-		return Punt.generate(length, BinarySystem.DIGITS);
+		return Punt.BINARY.generate(length);
 	}
 
 	/**
@@ -86,7 +173,7 @@ public final class Punt
 	@NotNull
 	public static String getTernary(final int length)
 	{
-		return Punt.generate(length, TernarySystem.DIGITS);
+		return Punt.TERNARY.generate(length);
 	}
 
 	/**
@@ -98,7 +185,7 @@ public final class Punt
 	@NotNull
 	public static String getQuaternary(final int length)
 	{
-		return Punt.generate(length, QuaternarySystem.DIGITS);
+		return Punt.QUATERNARY.generate(length);
 	}
 
 	/**
@@ -110,7 +197,7 @@ public final class Punt
 	@NotNull
 	public static String getOctal(final int length)
 	{
-		return Punt.generate(length, OctalSystem.DIGITS);
+		return Punt.OCTAL.generate(length);
 	}
 
 	/**
@@ -122,7 +209,7 @@ public final class Punt
 	@NotNull
 	public static String getDecimal(final int length)
 	{
-		return Punt.generate(length, DecimalSystem.DIGITS);
+		return Punt.DECIMAL.generate(length);
 	}
 
 	/**
@@ -134,7 +221,7 @@ public final class Punt
 	@NotNull
 	public static String getDuodecimal(final int length)
 	{
-		return Punt.generate(length, DuodecimalSystem.DIGITS);
+		return Punt.DUODECIMAL.generate(length);
 	}
 
 	/**
@@ -146,7 +233,7 @@ public final class Punt
 	@NotNull
 	public static String getHexadecimal(final int length)
 	{
-		return Punt.generate(length, HexadecimalSystem.DIGITS);
+		return Punt.HEXADECIMAL.generate(length);
 	}
 
 	/**
@@ -158,7 +245,7 @@ public final class Punt
 	@NotNull
 	public static String getAlpha(final int length)
 	{
-		return Punt.generate(length, EnglishAlphabet.LETTERS);
+		return Punt.ALPHA.generate(length);
 	}
 
 	/**
@@ -170,7 +257,7 @@ public final class Punt
 	@NotNull
 	public static String getDigit(final int length)
 	{
-		return Punt.generate(length, DecimalSystem.DIGITS);
+		return Punt.DECIMAL.generate(length);
 	}
 
 	/**
@@ -182,7 +269,20 @@ public final class Punt
 	@NotNull
 	public static String getSpecial(final int length)
 	{
-		return Punt.generate(length, List.copyOf(Punt.SPECIAL));
+		return Punt.SPECIAL_SET.generate(length);
+	}
+
+	/**
+	 * Возвращает произносимую строку из букв английского алфавита.
+	 *
+	 * @param length количество символов в возвращаемой строке.
+	 * @return строку из чередующихся согласных и гласных букв.
+	 * @see Pronounceable
+	 */
+	@NotNull
+	public static String getPronounceable(final int length)
+	{
+		return Punt.PRONOUNCEABLE.generate(length);
 	}
 
 	/**
@@ -201,6 +301,34 @@ public final class Punt
 		return Punt.generate(length, List.copyOf(symbols));
 	}
 
+	/**
+	 * Возвращает строку из символов, заданных кодовыми точками Unicode.
+	 * <p>
+	 * В отличие от {@link #getPersonal(int, Collection)}, допускает символы всех
+	 * плоскостей Unicode, в том числе эмодзи.
+	 * </p>
+	 *
+	 * @param length количество символов (кодовых точек) в возвращаемой строке.
+	 * @param codePoints кодовые точки символов из которых должна состоять строка.
+	 * @return строку со случайным порядком символов.
+	 * @throws NullPointerException если в качестве {@code codePoints} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code codePoints} содержат недопустимую кодовую точку или суррогат.
+	 * @throws IllegalArgumentException если символы не входят в базовую многоязычную плоскость,
+	 *         а {@code length} больше половины {@link Integer#MAX_VALUE}.
+	 * @see CodePointCharset
+	 */
+	@NotNull
+	public static String getPersonal(final int length, final int @NotNull ... codePoints)
+	{
+		Objects.requireNonNull(codePoints);
+
+		if (codePoints.length == 0) {
+			return "";
+		}
+
+		return new CodePointCharset(codePoints).generate(length);
+	}
+
 	/**
 	 * Генерирует строку из указанных символов.
 	 *
@@ -214,38 +342,80 @@ public final class Punt
 	{
 		Objects.requireNonNull(symbols);
 
-		final StringBuilder string = new StringBuilder();
+		if (symbols.isEmpty() || length <= 0) {
+			return "";
+		}
 
-		if (!symbols.isEmpty()) {
-			for (int i = 0; i < length; i++) {
-				int rndPosition = ThreadLocalRandom.current().nextInt(symbols.size());
+		final char[] alphabet = new char[symbols.size()];
 
-				string.append(symbols.get(rndPosition));
-			}
+		for (int i = 0; i < alphabet.length; i++) {
+			alphabet[i] = symbols.get(i);
 		}
 
-		return string.toString();
+		final char[] string = new char[length];
+
+		new MixedRadix(alphabet.length).fill(ThreadLocalRandom.current(), alphabet, string, 0, length);
+
+		return new String(string);
 	}
 
 	/**
 	 * Класс генерирования строк случайных символов.
+	 * <p>
+	 * Объект потокобезопасен: каждое изменение атомарно заменяет неизменяемый
+	 * набор символов, поэтому символы, добавленные из разных потоков, не теряются.
+	 * Однако порядок изменений из разных потоков не определён, поэтому общий
+	 * объект следует настраивать до его публикации, а в потоках вызывать только
+	 * {@link #fork()} и методы {@code build}.
+	 * </p>
 	 *
 	 * @author Алексей Каленчуков
 	 */
 	public static final class Builder
 	{
 		/**
-		 * Коллекция символов из которых будет формироваться строка.
+		 * Неизменяемый набор символов из которых будет формироваться строка.
 		 */
 		@NotNull
-		private final Set<@NotNull Character> symbols;
+		private final AtomicReference<@NotNull SymbolSet> snapshot;
 
 		/**
 		 * Конструктор для {@code Builder}.
 		 */
 		public Builder()
 		{
-			this.symbols = new HashSet<>();
+			this(SymbolSet.EMPTY);
+		}
+
+		/**
+		 * Конструктор для {@code Builder}.
+		 *
+		 * @param snapshot набор символов.
+		 */
+		private Builder(@NotNull final SymbolSet snapshot)
+		{
+			this.snapshot = new AtomicReference<>(snapshot);
+		}
+
+		/**
+		 * Возвращает копию текущего объекта.
+		 * <p>
+		 * Копия использует тот же неизменяемый набор символов без его копирования.
+		 * Последующие изменения копии не влияют на текущий объект и наоборот,
+		 * поэтому общий набор символов можно задать один раз и дополнять для
+		 * каждого использования:
+		 * </p>
+		 * <blockquote><pre>
+		 * Punt.Builder base = new Punt.Builder().withAlpha().withDigit();
+		 * String password = base.fork().withSpecial().build(16);
+		 * </pre></blockquote>
+		 *
+		 * @return копию текущего объекта.
+		 */
+		@NotNull
+		public Punt.Builder fork()
+		{
+			return new Punt.Builder(this.snapshot.get());
 		}
 
 		/**
@@ -260,7 +430,7 @@ public final class Punt
 		{
 			Objects.requireNonNull(symbols);
 
-			this.symbols.addAll(symbols);
+			this.snapshot.updateAndGet(current -> current.with(symbols));
 
 			return this;
 		}
@@ -273,7 +443,7 @@ public final class Punt
 		@NotNull
 		public Punt.Builder withBinary()
 		{
-			this.symbols.addAll(BinarySystem.DIGITS);
+			this.snapshot.updateAndGet(current -> current.with(Punt.BINARY));
 
 			return this;
 		}
@@ -286,7 +456,7 @@ public final class Punt
 		@NotNull
 		public Punt.Builder withTernary()
 		{
-			this.symbols.addAll(TernarySystem.DIGITS);
+			this.snapshot.updateAndGet(current -> current.with(Punt.TERNARY));
 
 			return this;
 		}
@@ -299,7 +469,7 @@ public final class Punt
 		@NotNull
 		public Punt.Builder withQuaternary()
 		{
-			this.symbols.addAll(QuaternarySystem.DIGITS);
+			this.snapshot.updateAndGet(current -> current.with(Punt.QUATERNARY));
 
 			return this;
 		}
@@ -312,7 +482,7 @@ public final class Punt
 		@NotNull
 		public Punt.Builder withOctal()
 		{
-			this.symbols.addAll(OctalSystem.DIGITS);
+			this.snapshot.updateAndGet(current -> current.with(Punt.OCTAL));
 
 			return this;
 		}
@@ -325,7 +495,7 @@ public final class Punt
 		@NotNull
 		public Punt.Builder withDecimal()
 		{
-			this.symbols.addAll(DecimalSystem.DIGITS);
+			this.snapshot.updateAndGet(current -> current.with(Punt.DECIMAL));
 
 			return this;
 		}
@@ -338,7 +508,7 @@ public final class Punt
 		@NotNull
 		public Punt.Builder withDuodecimal()
 		{
-			this.symbols.addAll(DuodecimalSystem.DIGITS);
+			this.snapshot.updateAndGet(current -> current.with(Punt.DUODECIMAL));
 
 			return this;
 		}
@@ -351,7 +521,7 @@ public final class Punt
 		@NotNull
 		public Punt.Builder withHexadecimal()
 		{
-			this.symbols.addAll(HexadecimalSystem.DIGITS);
+			this.snapshot.updateAndGet(current -> current.with(Punt.HEXADECIMAL));
 
 			return this;
 		}
@@ -364,7 +534,7 @@ public final class Punt
 		@NotNull
 		public Punt.Builder withDigit()
 		{
-			this.symbols.addAll(DecimalSystem.DIGITS);
+			this.snapshot.updateAndGet(current -> current.with(Punt.DECIMAL));
 
 			return this;
 		}
@@ -381,7 +551,9 @@ public final class Punt
 		{
 			Objects.requireNonNull(numeralSystem);
 
-			this.symbols.addAll(numeralSystem.toList());
+			final List<Character> symbols = numeralSystem.toList();
+
+			this.snapshot.updateAndGet(current -> current.with(symbols));
 
 			return this;
 		}
@@ -394,7 +566,7 @@ public final class Punt
 		@NotNull
 		public Punt.Builder withAlpha()
 		{
-			this.symbols.addAll(EnglishAlphabet.LETTERS);
+			this.snapshot.updateAndGet(current -> current.with(Punt.ALPHA));
 
 			return this;
 		}
@@ -411,7 +583,9 @@ public final class Punt
 		{
 			Objects.requireNonNull(alphabet);
 
-			this.symbols.addAll(alphabet.toList());
+			final List<Character> symbols = alphabet.toList();
+
+			this.snapshot.updateAndGet(current -> current.with(symbols));
 
 			return this;
 		}
@@ -425,7 +599,41 @@ public final class Punt
 		@NotNull
 		public Punt.Builder withSpecial()
 		{
-			this.symbols.addAll(Punt.SPECIAL);
+			this.snapshot.updateAndGet(current -> current.with(Punt.SPECIAL_SET));
+
+			return this;
+		}
+
+		/**
+		 * Исключает символы.
+		 * <p>
+		 * Символы исключаются из всех наборов независимо от порядка вызова методов.
+		 * </p>
+		 *
+		 * @param symbols символы, которые не должны присутствовать в строке.
+		 * @return текущий объект.
+		 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+		 */
+		@NotNull
+		public Punt.Builder without(@NotNull final Collection<@NotNull Character> symbols)
+		{
+			Objects.requireNonNull(symbols);
+
+			this.snapshot.updateAndGet(current -> current.without(symbols));
+
+			return this;
+		}
+
+		/**
+		 * Исключает неоднозначные символы.
+		 *
+		 * @return текущий объект.
+		 * @see Punt#AMBIGUOUS
+		 */
+		@NotNull
+		public Punt.Builder withoutAmbiguous()
+		{
+			this.snapshot.updateAndGet(current -> current.without(Punt.AMBIGUOUS_SET));
 
 			return this;
 		}
@@ -439,7 +647,85 @@ public final class Punt
 		@NotNull
 		public String build(final int length)
 		{
-			return Punt.generate(length, List.copyOf(this.symbols));
+			return this.snapshot.get().generate(length);
+		}
+
+		/**
+		 * Возвращает сгенерированные строки из указанных наборов символов, размещённые вне кучи.
+		 *
+		 * @param length количество символов в каждой строке.
+		 * @param count количество строк.
+		 * @return строки со случайным порядком символов.
+		 * @throws IllegalArgumentException если значение {@code length} меньше единицы.
+		 * @throws IllegalArgumentException если значение {@code count} отрицательное.
+		 * @throws IllegalArgumentException если наборы символов пусты или содержат символы вне ASCII.
+		 * @see TokenArena
+		 */
+		@NotNull
+		public TokenArena buildArena(final int length, final long count)
+		{
+			return new TokenArena(length, count, this.compile());
+		}
+
+		/**
+		 * Возвращает строку из указанных наборов символов, символы которой вычисляются по требованию.
+		 *
+		 * @param length количество символов в строке.
+		 * @return строку со случайным порядком символов.
+		 * @throws IllegalArgumentException если значение {@code length} отрицательное.
+		 * @throws IllegalArgumentException если наборы символов пусты.
+		 * @see RandomSequence
+		 */
+		@NotNull
+		public RandomSequence buildSequence(final long length)
+		{
+			return new RandomSequence(length, this.compile());
+		}
+
+		/**
+		 * Возвращает генератор уникальных строк узла из указанных наборов символов.
+		 * <p>
+		 * Генератор следует создать один раз и использовать повторно. Все узлы должны
+		 * использовать одинаковые символы, {@code length}, {@code nodeWidth} и
+		 * {@code counterWidth}. Генераторы с одинаковыми параметрами в пределах процесса
+		 * используют общее возрастающее значение, но каждый номер узла должен
+		 * одновременно использоваться только одним процессом.
+		 * </p>
+		 *
+		 * @param length количество символов в строке.
+		 * @param nodeId номер узла.
+		 * @param nodeWidth количество символов номера узла.
+		 * @param counterWidth количество символов возрастающего значения.
+		 * @return генератор уникальных строк.
+		 * @throws IllegalArgumentException если различных символов меньше двух.
+		 * @throws IllegalArgumentException если значения {@code nodeWidth} или {@code counterWidth} меньше единицы.
+		 * @throws IllegalArgumentException если значение {@code length} меньше суммы {@code nodeWidth} и {@code counterWidth}.
+		 * @throws IllegalArgumentException если {@code nodeId} отрицательный или не помещается в {@code nodeWidth} символов.
+		 * @throws IllegalArgumentException если {@code counterWidth} символов не вмещают значения
+		 *         на {@link PartitionedGenerator#LIFETIME_DAYS} дней.
+		 * @see PartitionedGenerator
+		 */
+		@NotNull
+		public PartitionedGenerator buildPartitioned(final int length, final long nodeId,
+													 final int nodeWidth, final int counterWidth)
+		{
+			return new PartitionedGenerator(this.compile(), length, nodeId, nodeWidth, counterWidth);
+		}
+
+		/**
+		 * Возвращает итоговый набор символов.
+		 * <p>
+		 * Исключённые символы удаляются один раз при составлении набора,
+		 * поэтому не влияют на стоимость генерирования каждого символа.
+		 * </p>
+		 *
+		 * @return символы из которых должна состоять строка.
+		 */
+		@NotNull
+		@Unmodifiable
+		List<@NotNull Character> compile()
+		{
+			return this.snapshot.get().toList();
 		}
 	}
 }
@@ -0,0 +1,540 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Класс строки случайных символов, символы которой вычисляются по требованию.
+ * <p>
+ * Символы не хранятся в памяти: каждый блок символов вычисляется ключевой
+ * псевдослучайной функцией SipHash-2-4 от 128-битного ключа и номера блока,
+ * поэтому символ в любой позиции доступен за постоянное время без вычисления
+ * предыдущих символов. Одна и та же позиция всегда содержит
+ * один и тот же символ, что позволяет читать строку по частям, в том числе
+ * из нескольких потоков одновременно.
+ * </p>
+ * <p>
+ * Восстановить ключ по прочитанным символам и вычислить по ним остальные
+ * символы строки можно только подбором 128-битного ключа. Ключ по умолчанию
+ * выбирается через {@link SecureRandom}. Тем не менее SipHash является быстрой
+ * псевдослучайной функцией, а не криптографически стойким генератором,
+ * поэтому для секретных ключей и паролей следует использовать
+ * {@link SecureRandom} напрямую.
+ * </p>
+ * <p>
+ * Длина строки может превышать {@link Integer#MAX_VALUE}. В этом случае
+ * символы доступны через {@link #charAt(long)}, {@link #subSequence(long, long)}
+ * и {@link #reader(long, long)}.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class RandomSequence implements CharSequence
+{
+	/**
+	 * Генератор ключей по умолчанию.
+	 */
+	@NotNull
+	private static final SecureRandom KEYS = new SecureRandom();
+
+	/**
+	 * Символы из которых состоит строка.
+	 */
+	private final char @NotNull [] symbols;
+
+	/**
+	 * Генератор цифр.
+	 */
+	@NotNull
+	private final MixedRadix engine;
+
+	/**
+	 * Младшие 64 бита ключа.
+	 */
+	private final long key0;
+
+	/**
+	 * Старшие 64 бита ключа.
+	 */
+	private final long key1;
+
+	/**
+	 * Позиция первого символа строки в последовательности ключа.
+	 */
+	private final long offset;
+
+	/**
+	 * Количество символов.
+	 */
+	private final long length;
+
+	/**
+	 * Конструктор для {@code RandomSequence}.
+	 * <p>
+	 * Ключ выбирается случайно.
+	 * </p>
+	 *
+	 * @param length количество символов.
+	 * @param symbols символы из которых должна состоять строка.
+	 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+	 * @throws IllegalArgumentException если значение {@code length} отрицательное.
+	 * @throws IllegalArgumentException если {@code symbols} пусты.
+	 */
+	public RandomSequence(final long length, @NotNull final Collection<@NotNull Character> symbols)
+	{
+		this(length, symbols, RandomSequence.KEYS.nextLong(), RandomSequence.KEYS.nextLong());
+	}
+
+	/**
+	 * Конструктор для {@code RandomSequence}.
+	 * <p>
+	 * Строки с одинаковыми символами и ключом совпадают.
+	 * </p>
+	 *
+	 * @param length количество символов.
+	 * @param symbols символы из которых должна состоять строка.
+	 * @param key0 младшие 64 бита ключа.
+	 * @param key1 старшие 64 бита ключа.
+	 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+	 * @throws IllegalArgumentException если значение {@code length} отрицательное.
+	 * @throws IllegalArgumentException если {@code symbols} пусты.
+	 */
+	public RandomSequence(final long length, @NotNull final Collection<@NotNull Character> symbols,
+						  final long key0, final long key1)
+	{
+		Objects.requireNonNull(symbols);
+
+		if (length < 0 || symbols.isEmpty()) {
+			throw new IllegalArgumentException();
+		}
+
+		final List<Character> list = List.copyOf(symbols);
+
+		this.symbols = new char[list.size()];
+
+		for (int i = 0; i < this.symbols.length; i++) {
+			this.symbols[i] = list.get(i);
+		}
+
+		this.engine = new MixedRadix(this.symbols.length);
+		this.key0 = key0;
+		this.key1 = key1;
+		this.offset = 0;
+		this.length = length;
+	}
+
+	/**
+	 * Конструктор для {@code RandomSequence}.
+	 *
+	 * @param parent строка, часть которой представляет новый объект.
+	 * @param offset позиция первого символа в последовательности ключа.
+	 * @param length количество символов.
+	 */
+	private RandomSequence(@NotNull final RandomSequence parent, final long offset, final long length)
+	{
+		this.symbols = parent.symbols;
+		this.engine = parent.engine;
+		this.key0 = parent.key0;
+		this.key1 = parent.key1;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Возвращает количество символов.
+	 *
+	 * @return количество символов.
+	 */
+	public long getLength()
+	{
+		return this.length;
+	}
+
+	/**
+	 * Возвращает количество символов, но не более {@link Integer#MAX_VALUE}.
+	 *
+	 * @return количество символов.
+	 * @see #getLength()
+	 */
+	@Override
+	public int length()
+	{
+		return (int) Math.min(this.length, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @see CharSequence#charAt(int)
+	 */
+	@Override
+	public char charAt(final int index)
+	{
+		return this.charAt((long) index);
+	}
+
+	/**
+	 * Возвращает символ в указанной позиции.
+	 *
+	 * @param index позиция символа.
+	 * @return символ.
+	 * @throws IndexOutOfBoundsException если значение {@code index} вне диапазона строки.
+	 */
+	public char charAt(final long index)
+	{
+		Objects.checkIndex(index, this.length);
+
+		final long position = this.offset + index;
+		final int digits = this.engine.getDigits();
+		final long fraction = this.block(position / digits);
+
+		return this.symbols[this.engine.digit(fraction, (int) (position % digits))];
+	}
+
+	/**
+	 * @see CharSequence#subSequence(int, int)
+	 */
+	@NotNull
+	@Override
+	public RandomSequence subSequence(final int start, final int end)
+	{
+		return this.subSequence((long) start, end);
+	}
+
+	/**
+	 * Возвращает часть строки.
+	 * <p>
+	 * Символы не копируются.
+	 * </p>
+	 *
+	 * @param start позиция первого символа включительно.
+	 * @param end позиция последнего символа не включительно.
+	 * @return часть строки.
+	 * @throws IndexOutOfBoundsException если позиции вне диапазона строки.
+	 */
+	@NotNull
+	public RandomSequence subSequence(final long start, final long end)
+	{
+		Objects.checkFromToIndex(start, end, this.length);
+
+		return new RandomSequence(this, this.offset + start, end - start);
+	}
+
+	/**
+	 * Возвращает поток чтения всех символов строки.
+	 *
+	 * @return поток чтения символов.
+	 */
+	@NotNull
+	public Reader reader()
+	{
+		return this.reader(0, this.length);
+	}
+
+	/**
+	 * Возвращает поток чтения части символов строки.
+	 * <p>
+	 * Потоки чтения разных частей независимы и могут использоваться параллельно.
+	 * </p>
+	 *
+	 * @param start позиция первого символа включительно.
+	 * @param end позиция последнего символа не включительно.
+	 * @return поток чтения символов.
+	 * @throws IndexOutOfBoundsException если позиции вне диапазона строки.
+	 */
+	@NotNull
+	public Reader reader(final long start, final long end)
+	{
+		Objects.checkFromToIndex(start, end, this.length);
+
+		return new RandomSequence.SequenceReader(this, start, end);
+	}
+
+	/**
+	 * Возвращает строку со всеми символами.
+	 *
+	 * @return строку.
+	 * @throws IllegalStateException если количество символов превышает {@link Integer#MAX_VALUE}.
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		if (this.length > Integer.MAX_VALUE) {
+			throw new IllegalStateException();
+		}
+
+		final char[] string = new char[(int) this.length];
+
+		this.fill(0, string, 0, string.length);
+
+		return new String(string);
+	}
+
+	/**
+	 * Записывает символы строки в массив.
+	 * <p>
+	 * Каждый блок символов вычисляется один раз.
+	 * </p>
+	 *
+	 * @param index позиция первого символа строки.
+	 * @param target массив, в который записываются символы.
+	 * @param offset позиция в {@code target}, с которой начинается запись.
+	 * @param length количество записываемых символов.
+	 */
+	private void fill(final long index, final char @NotNull [] target, final int offset, final int length)
+	{
+		final int digits = this.engine.getDigits();
+		final int radix = this.engine.getRadix();
+
+		long position = this.offset + index;
+		int written = 0;
+
+		while (written < length) {
+			final int skip = (int) (position % digits);
+			final int count = Math.min(length - written, digits - skip);
+
+			long fraction = this.block(position / digits);
+
+			for (int i = 0; i < skip; i++) {
+				fraction *= radix;
+			}
+
+			for (int i = 0; i < count; i++) {
+				target[offset + written++] = this.symbols[(int) MixedRadix.multiplyHighUnsigned(fraction, radix)];
+				fraction *= radix;
+			}
+
+			position += count;
+		}
+	}
+
+	/**
+	 * Возвращает случайное число блока символов.
+	 * <p>
+	 * Число вычисляется функцией SipHash-2-4 от номера блока и номера попытки.
+	 * Если число приводит к смещению распределения, используется следующая попытка.
+	 * </p>
+	 *
+	 * @param block номер блока.
+	 * @return случайное число.
+	 */
+	private long block(final long block)
+	{
+		long attempt = 0;
+		long fraction = RandomSequence.sipHash(this.key0, this.key1, block, attempt);
+
+		while (!this.engine.accepts(fraction)) {
+			fraction = RandomSequence.sipHash(this.key0, this.key1, block, ++attempt);
+		}
+
+		return fraction;
+	}
+
+	/**
+	 * Возвращает значение функции SipHash-2-4 от сообщения из двух 64-битных слов.
+	 * <p>
+	 * Результат совпадает с SipHash-2-4 от 16 байт, в которых слова записаны
+	 * в порядке от младшего байта к старшему.
+	 * </p>
+	 *
+	 * @param key0 младшие 64 бита ключа.
+	 * @param key1 старшие 64 бита ключа.
+	 * @param word0 первое слово сообщения.
+	 * @param word1 второе слово сообщения.
+	 * @return значение функции.
+	 */
+	static long sipHash(final long key0, final long key1, final long word0, final long word1)
+	{
+		final long[] v = {
+			key0 ^ 0x736F6D6570736575L,
+			key1 ^ 0x646F72616E646F6DL,
+			key0 ^ 0x6C7967656E657261L,
+			key1 ^ 0x7465646279746573L
+		};
+
+		RandomSequence.compress(v, word0);
+		RandomSequence.compress(v, word1);
+		RandomSequence.compress(v, 16L << 56);
+
+		v[2] ^= 0xFF;
+
+		for (int i = 0; i < 4; i++) {
+			RandomSequence.sipRound(v);
+		}
+
+		return v[0] ^ v[1] ^ v[2] ^ v[3];
+	}
+
+	/**
+	 * Добавляет слово сообщения в состояние функции SipHash-2-4.
+	 *
+	 * @param v состояние функции.
+	 * @param word слово сообщения.
+	 */
+	private static void compress(final long @NotNull [] v, final long word)
+	{
+		v[3] ^= word;
+		RandomSequence.sipRound(v);
+		RandomSequence.sipRound(v);
+		v[0] ^= word;
+	}
+
+	/**
+	 * Выполняет раунд функции SipHash.
+	 *
+	 * @param v состояние функции.
+	 */
+	private static void sipRound(final long @NotNull [] v)
+	{
+		v[0] += v[1];
+		v[1] = Long.rotateLeft(v[1], 13) ^ v[0];
+		v[0] = Long.rotateLeft(v[0], 32);
+		v[2] += v[3];
+		v[3] = Long.rotateLeft(v[3], 16) ^ v[2];
+		v[0] += v[3];
+		v[3] = Long.rotateLeft(v[3], 21) ^ v[0];
+		v[2] += v[1];
+		v[1] = Long.rotateLeft(v[1], 17) ^ v[2];
+		v[2] = Long.rotateLeft(v[2], 32);
+	}
+
+	/**
+	 * Класс потока чтения символов {@code RandomSequence}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private static final class SequenceReader extends Reader
+	{
+		/**
+		 * Строка, символы которой читаются.
+		 */
+		@NotNull
+		private final RandomSequence sequence;
+
+		/**
+		 * Позиция следующего символа.
+		 */
+		private long position;
+
+		/**
+		 * Позиция последнего символа не включительно.
+		 */
+		private final long end;
+
+		/**
+		 * Признак закрытия потока.
+		 */
+		private boolean closed;
+
+		/**
+		 * Конструктор для {@code SequenceReader}.
+		 *
+		 * @param sequence строка, символы которой читаются.
+		 * @param start позиция первого символа включительно.
+		 * @param end позиция последнего символа не включительно.
+		 */
+		private SequenceReader(@NotNull final RandomSequence sequence, final long start, final long end)
+		{
+			this.sequence = sequence;
+			this.position = start;
+			this.end = end;
+		}
+
+		/**
+		 * @see Reader#read(char[], int, int)
+		 */
+		@Override
+		public int read(final char @NotNull [] buffer, final int offset, final int length)
+			throws IOException
+		{
+			Objects.checkFromIndexSize(offset, length, buffer.length);
+			this.ensureOpen();
+
+			if (length == 0) {
+				return 0;
+			}
+
+			if (this.position >= this.end) {
+				return -1;
+			}
+
+			final int count = (int) Math.min(length, this.end - this.position);
+
+			this.sequence.fill(this.position, buffer, offset, count);
+			this.position += count;
+
+			return count;
+		}
+
+		/**
+		 * @see Reader#skip(long)
+		 */
+		@Override
+		public long skip(final long count)
+			throws IOException
+		{
+			if (count < 0) {
+				throw new IllegalArgumentException();
+			}
+
+			this.ensureOpen();
+
+			final long skipped = Math.min(count, this.end - this.position);
+
+			this.position += skipped;
+
+			return skipped;
+		}
+
+		/**
+		 * @see Reader#close()
+		 */
+		@Override
+		public void close()
+		{
+			this.closed = true;
+		}
+
+		/**
+		 * Проверяет, что поток не закрыт.
+		 *
+		 * @throws IOException если поток закрыт.
+		 */
+		private void ensureOpen()
+			throws IOException
+		{
+			if (this.closed) {
+				throw new IOException("Stream closed");
+			}
+		}
+	}
+}
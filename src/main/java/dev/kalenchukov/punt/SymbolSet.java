@@ -0,0 +1,410 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Класс неизменяемого набора символов.
+ * <p>
+ * Добавленные и исключённые символы хранятся упорядоченными массивами без
+ * повторов, поэтому объединение наборов выполняется слиянием массивов без
+ * хеширования и упаковки символов. Список итоговых символов и генератор цифр
+ * вычисляются при первом обращении. Если операция не изменяет набор,
+ * возвращается тот же объект, а результаты операций с постоянными наборами
+ * запоминаются, поэтому повторное составление того же набора не создаёт объектов.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class SymbolSet
+{
+	/**
+	 * Пустой набор символов.
+	 */
+	@NotNull
+	static final SymbolSet EMPTY = new SymbolSet(new char[0], new char[0]);
+
+	/**
+	 * Добавленные символы по возрастанию.
+	 */
+	private final char @NotNull [] included;
+
+	/**
+	 * Исключённые символы по возрастанию.
+	 */
+	private final char @NotNull [] excluded;
+
+	/**
+	 * Итоговые символы по возрастанию.
+	 */
+	private final char @NotNull [] symbols;
+
+	/**
+	 * Итоговые символы в виде списка или {@code null}, если список ещё не составлен.
+	 */
+	@Nullable
+	@Unmodifiable
+	private volatile List<@NotNull Character> list;
+
+	/**
+	 * Генератор цифр или {@code null}, если он ещё не создан.
+	 */
+	@Nullable
+	private volatile MixedRadix engine;
+
+	/**
+	 * Запомненные результаты добавления постоянных наборов.
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull SymbolSet, @NotNull SymbolSet> withResults;
+
+	/**
+	 * Запомненные результаты исключения постоянных наборов.
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull SymbolSet, @NotNull SymbolSet> withoutResults;
+
+	/**
+	 * Конструктор для {@code SymbolSet}.
+	 *
+	 * @param included добавленные символы по возрастанию.
+	 * @param excluded исключённые символы по возрастанию.
+	 */
+	private SymbolSet(final char @NotNull [] included, final char @NotNull [] excluded)
+	{
+		this.included = included;
+		this.excluded = excluded;
+		this.symbols = SymbolSet.difference(included, excluded);
+		this.withResults = new ConcurrentHashMap<>();
+		this.withoutResults = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Возвращает набор из символов.
+	 *
+	 * @param symbols символы.
+	 * @return набор символов.
+	 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+	 */
+	@NotNull
+	static SymbolSet of(@NotNull final Collection<@NotNull Character> symbols)
+	{
+		return SymbolSet.EMPTY.with(symbols);
+	}
+
+	/**
+	 * Возвращает набор с добавленными символами.
+	 *
+	 * @param symbols добавляемые символы.
+	 * @return набор символов.
+	 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+	 */
+	@NotNull
+	SymbolSet with(@NotNull final Collection<@NotNull Character> symbols)
+	{
+		return this.with(SymbolSet.toSortedArray(symbols));
+	}
+
+	/**
+	 * Возвращает набор с добавленными символами постоянного набора.
+	 * <p>
+	 * Результат запоминается для каждого {@code other}, поэтому метод
+	 * предназначен только для постоянных наборов.
+	 * </p>
+	 *
+	 * @param other постоянный набор, символы которого добавляются.
+	 * @return набор символов.
+	 * @throws NullPointerException если в качестве {@code other} передан {@code null}.
+	 */
+	@NotNull
+	SymbolSet with(@NotNull final SymbolSet other)
+	{
+		Objects.requireNonNull(other);
+
+		SymbolSet result = this.withResults.get(other);
+
+		if (result == null) {
+			result = this.with(other.symbols);
+
+			final SymbolSet previous = this.withResults.putIfAbsent(other, result);
+
+			if (previous != null) {
+				result = previous;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Возвращает набор с исключёнными символами.
+	 *
+	 * @param symbols исключаемые символы.
+	 * @return набор символов.
+	 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+	 */
+	@NotNull
+	SymbolSet without(@NotNull final Collection<@NotNull Character> symbols)
+	{
+		return this.without(SymbolSet.toSortedArray(symbols));
+	}
+
+	/**
+	 * Возвращает набор с исключёнными символами постоянного набора.
+	 * <p>
+	 * Результат запоминается для каждого {@code other}, поэтому метод
+	 * предназначен только для постоянных наборов.
+	 * </p>
+	 *
+	 * @param other постоянный набор, символы которого исключаются.
+	 * @return набор символов.
+	 * @throws NullPointerException если в качестве {@code other} передан {@code null}.
+	 */
+	@NotNull
+	SymbolSet without(@NotNull final SymbolSet other)
+	{
+		Objects.requireNonNull(other);
+
+		SymbolSet result = this.withoutResults.get(other);
+
+		if (result == null) {
+			result = this.without(other.symbols);
+
+			final SymbolSet previous = this.withoutResults.putIfAbsent(other, result);
+
+			if (previous != null) {
+				result = previous;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Возвращает итоговые символы.
+	 *
+	 * @return итоговые символы.
+	 */
+	@NotNull
+	@Unmodifiable
+	List<@NotNull Character> toList()
+	{
+		List<Character> list = this.list;
+
+		if (list == null) {
+			final Character[] boxed = new Character[this.symbols.length];
+
+			for (int i = 0; i < boxed.length; i++) {
+				boxed[i] = this.symbols[i];
+			}
+
+			list = List.of(boxed);
+			this.list = list;
+		}
+
+		return list;
+	}
+
+	/**
+	 * Возвращает строку из итоговых символов.
+	 *
+	 * @param length количество символов в возвращаемой строке.
+	 * @return строку со случайным порядком символов.
+	 */
+	@NotNull
+	String generate(final int length)
+	{
+		if (this.symbols.length == 0 || length <= 0) {
+			return "";
+		}
+
+		MixedRadix engine = this.engine;
+
+		if (engine == null) {
+			engine = new MixedRadix(this.symbols.length);
+			this.engine = engine;
+		}
+
+		final char[] string = new char[length];
+
+		engine.fill(ThreadLocalRandom.current(), this.symbols, string, 0, length);
+
+		return new String(string);
+	}
+
+	/**
+	 * Возвращает набор с добавленными символами.
+	 *
+	 * @param symbols добавляемые символы по возрастанию.
+	 * @return набор символов.
+	 */
+	@NotNull
+	private SymbolSet with(final char @NotNull [] symbols)
+	{
+		final char[] included = SymbolSet.union(this.included, symbols);
+
+		return (included == this.included) ? this : new SymbolSet(included, this.excluded);
+	}
+
+	/**
+	 * Возвращает набор с исключёнными символами.
+	 *
+	 * @param symbols исключаемые символы по возрастанию.
+	 * @return набор символов.
+	 */
+	@NotNull
+	private SymbolSet without(final char @NotNull [] symbols)
+	{
+		final char[] excluded = SymbolSet.union(this.excluded, symbols);
+
+		return (excluded == this.excluded) ? this : new SymbolSet(this.included, excluded);
+	}
+
+	/**
+	 * Возвращает символы по возрастанию без повторов.
+	 *
+	 * @param symbols символы.
+	 * @return символы по возрастанию.
+	 */
+	private static char @NotNull [] toSortedArray(@NotNull final Collection<@NotNull Character> symbols)
+	{
+		Objects.requireNonNull(symbols);
+
+		final char[] array = new char[symbols.size()];
+
+		int length = 0;
+
+		for (Character symbol : symbols) {
+			array[length++] = symbol;
+		}
+
+		Arrays.sort(array);
+
+		int unique = 0;
+
+		for (int i = 0; i < length; i++) {
+			if (unique == 0 || array[unique - 1] != array[i]) {
+				array[unique++] = array[i];
+			}
+		}
+
+		return (unique == array.length) ? array : Arrays.copyOf(array, unique);
+	}
+
+	/**
+	 * Возвращает объединение упорядоченных массивов.
+	 *
+	 * @param left символы по возрастанию.
+	 * @param right символы по возрастанию.
+	 * @return {@code left}, если он содержит все символы {@code right}, иначе новый массив.
+	 */
+	private static char @NotNull [] union(final char @NotNull [] left, final char @NotNull [] right)
+	{
+		if (SymbolSet.containsAll(left, right)) {
+			return left;
+		}
+
+		final char[] result = new char[left.length + right.length];
+
+		int i = 0;
+		int j = 0;
+		int length = 0;
+
+		while (i < left.length || j < right.length) {
+			if (j == right.length || (i < left.length && left[i] < right[j])) {
+				result[length++] = left[i++];
+			} else if (i == left.length || right[j] < left[i]) {
+				result[length++] = right[j++];
+			} else {
+				result[length++] = left[i++];
+				j++;
+			}
+		}
+
+		return Arrays.copyOf(result, length);
+	}
+
+	/**
+	 * Проверяет, содержит ли упорядоченный массив все символы другого упорядоченного массива.
+	 *
+	 * @param left символы по возрастанию.
+	 * @param right символы по возрастанию.
+	 * @return {@code true}, если {@code left} содержит все символы {@code right}, иначе {@code false}.
+	 */
+	private static boolean containsAll(final char @NotNull [] left, final char @NotNull [] right)
+	{
+		int i = 0;
+
+		for (char symbol : right) {
+			while (i < left.length && left[i] < symbol) {
+				i++;
+			}
+
+			if (i == left.length || left[i] != symbol) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Возвращает разность упорядоченных массивов.
+	 *
+	 * @param left символы по возрастанию.
+	 * @param right исключаемые символы по возрастанию.
+	 * @return символы {@code left}, отсутствующие в {@code right}.
+	 */
+	private static char @NotNull [] difference(final char @NotNull [] left, final char @NotNull [] right)
+	{
+		final char[] result = new char[left.length];
+
+		int j = 0;
+		int length = 0;
+
+		for (char symbol : left) {
+			while (j < right.length && right[j] < symbol) {
+				j++;
+			}
+
+			if (j == right.length || right[j] != symbol) {
+				result[length++] = symbol;
+			}
+		}
+
+		return (length == left.length) ? left : Arrays.copyOf(result, length);
+	}
+}
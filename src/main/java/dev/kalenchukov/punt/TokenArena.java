@@ -0,0 +1,337 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Класс хранения строк случайных символов фиксированной длины вне кучи.
+ * <p>
+ * Строки генерируются сразу в непрерывные блоки памяти, выделенные через
+ * {@link ByteBuffer#allocateDirect(int)}, по одному байту на символ, без
+ * создания объектов {@link String}. Поэтому допускаются только символы
+ * ASCII. Строки доступны по индексу в виде {@link CharSequence} без
+ * копирования и могут быть целиком выгружены в канал или файл.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class TokenArena
+{
+	/**
+	 * Максимальный размер одного блока памяти в байтах.
+	 */
+	private static final int CHUNK_SIZE = 1 << 30;
+
+	/**
+	 * Размер промежуточного буфера генерирования в байтах.
+	 */
+	private static final int SCRATCH_SIZE = 1 << 14;
+
+	/**
+	 * Количество символов в одной строке.
+	 */
+	private final int width;
+
+	/**
+	 * Количество строк.
+	 */
+	private final long count;
+
+	/**
+	 * Количество строк в одном блоке памяти.
+	 */
+	private final int tokensPerChunk;
+
+	/**
+	 * Блоки памяти со строками.
+	 */
+	private final ByteBuffer @NotNull [] chunks;
+
+	/**
+	 * Конструктор для {@code TokenArena}.
+	 *
+	 * @param width количество символов в каждой строке.
+	 * @param count количество строк.
+	 * @param symbols символы из которых должны состоять строки.
+	 * @throws NullPointerException если в качестве {@code symbols} передан {@code null}.
+	 * @throws IllegalArgumentException если значение {@code width} меньше единицы.
+	 * @throws IllegalArgumentException если значение {@code count} отрицательное.
+	 * @throws IllegalArgumentException если {@code symbols} пусты или содержат символы вне ASCII.
+	 */
+	public TokenArena(final int width, final long count, @NotNull final Collection<@NotNull Character> symbols)
+	{
+		Objects.requireNonNull(symbols);
+
+		if (width < 1 || count < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		final byte[] alphabet = TokenArena.toAscii(List.copyOf(symbols));
+
+		this.width = width;
+		this.count = count;
+		this.tokensPerChunk = Math.max(1, TokenArena.CHUNK_SIZE / width);
+
+		final long chunksCount = (count + this.tokensPerChunk - 1) / this.tokensPerChunk;
+
+		if (chunksCount > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException();
+		}
+
+		this.chunks = new ByteBuffer[(int) chunksCount];
+
+		final MixedRadix engine = new MixedRadix(alphabet.length);
+		final byte[] scratch = new byte[TokenArena.SCRATCH_SIZE];
+
+		for (int i = 0; i < this.chunks.length; i++) {
+			final long tokens = Math.min(this.tokensPerChunk, count - (long) i * this.tokensPerChunk);
+			final ByteBuffer chunk = ByteBuffer.allocateDirect((int) (tokens * width));
+
+			while (chunk.hasRemaining()) {
+				final int length = Math.min(chunk.remaining(), scratch.length);
+
+				engine.fill(ThreadLocalRandom.current(), alphabet, scratch, 0, length);
+				chunk.put(scratch, 0, length);
+			}
+
+			this.chunks[i] = chunk.flip();
+		}
+	}
+
+	/**
+	 * Возвращает количество символов в каждой строке.
+	 *
+	 * @return количество символов в строке.
+	 */
+	public int getWidth()
+	{
+		return this.width;
+	}
+
+	/**
+	 * Возвращает количество строк.
+	 *
+	 * @return количество строк.
+	 */
+	public long size()
+	{
+		return this.count;
+	}
+
+	/**
+	 * Возвращает строку по индексу.
+	 * <p>
+	 * Возвращаемая последовательность символов не копирует данные и читает их
+	 * непосредственно из памяти {@code TokenArena}.
+	 * </p>
+	 *
+	 * @param index индекс строки.
+	 * @return строку случайных символов.
+	 * @throws IndexOutOfBoundsException если значение {@code index} вне диапазона строк.
+	 */
+	@NotNull
+	public CharSequence get(final long index)
+	{
+		Objects.checkIndex(index, this.count);
+
+		final ByteBuffer chunk = this.chunks[(int) (index / this.tokensPerChunk)];
+		final int offset = (int) (index % this.tokensPerChunk) * this.width;
+
+		return new TokenArena.Token(chunk, offset, this.width);
+	}
+
+	/**
+	 * Записывает все строки в канал.
+	 * <p>
+	 * Строки записываются друг за другом без разделителей, по {@link #getWidth()}
+	 * байт на строку.
+	 * </p>
+	 *
+	 * @param channel канал, в который записываются строки.
+	 * @throws NullPointerException если в качестве {@code channel} передан {@code null}.
+	 * @throws IOException если произошла ошибка записи.
+	 */
+	public void writeTo(@NotNull final WritableByteChannel channel)
+		throws IOException
+	{
+		Objects.requireNonNull(channel);
+
+		for (ByteBuffer chunk : this.chunks) {
+			final ByteBuffer buffer = chunk.duplicate();
+
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Записывает все строки в файл.
+	 * <p>
+	 * Если файл существует, его содержимое будет заменено.
+	 * </p>
+	 *
+	 * @param path путь к файлу.
+	 * @throws NullPointerException если в качестве {@code path} передан {@code null}.
+	 * @throws IOException если произошла ошибка записи.
+	 * @see #writeTo(WritableByteChannel)
+	 */
+	public void writeTo(@NotNull final Path path)
+		throws IOException
+	{
+		Objects.requireNonNull(path);
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			this.writeTo(channel);
+		}
+	}
+
+	/**
+	 * Возвращает однобайтовые коды символов.
+	 *
+	 * @param symbols символы.
+	 * @return коды символов.
+	 * @throws IllegalArgumentException если {@code symbols} пусты или содержат символы вне ASCII.
+	 */
+	private static byte @NotNull [] toAscii(@NotNull final List<@NotNull Character> symbols)
+	{
+		if (symbols.isEmpty()) {
+			throw new IllegalArgumentException();
+		}
+
+		final byte[] alphabet = new byte[symbols.size()];
+
+		for (int i = 0; i < alphabet.length; i++) {
+			final char symbol = symbols.get(i);
+
+			if (symbol > 0x7F) {
+				throw new IllegalArgumentException();
+			}
+
+			alphabet[i] = (byte) symbol;
+		}
+
+		return alphabet;
+	}
+
+	/**
+	 * Класс последовательности символов одной строки в памяти {@code TokenArena}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private static final class Token implements CharSequence
+	{
+		/**
+		 * Блок памяти со строкой.
+		 */
+		@NotNull
+		private final ByteBuffer chunk;
+
+		/**
+		 * Позиция первого символа в блоке памяти.
+		 */
+		private final int offset;
+
+		/**
+		 * Количество символов.
+		 */
+		private final int length;
+
+		/**
+		 * Конструктор для {@code Token}.
+		 *
+		 * @param chunk блок памяти со строкой.
+		 * @param offset позиция первого символа в блоке памяти.
+		 * @param length количество символов.
+		 */
+		private Token(@NotNull final ByteBuffer chunk, final int offset, final int length)
+		{
+			this.chunk = chunk;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		/**
+		 * @see CharSequence#length()
+		 */
+		@Override
+		public int length()
+		{
+			return this.length;
+		}
+
+		/**
+		 * @see CharSequence#charAt(int)
+		 */
+		@Override
+		public char charAt(final int index)
+		{
+			Objects.checkIndex(index, this.length);
+
+			return (char) this.chunk.get(this.offset + index);
+		}
+
+		/**
+		 * @see CharSequence#subSequence(int, int)
+		 */
+		@NotNull
+		@Override
+		public CharSequence subSequence(final int start, final int end)
+		{
+			Objects.checkFromToIndex(start, end, this.length);
+
+			return new TokenArena.Token(this.chunk, this.offset + start, end - start);
+		}
+
+		/**
+		 * @see Object#toString()
+		 */
+		@NotNull
+		@Override
+		public String toString()
+		{
+			final byte[] bytes = new byte[this.length];
+
+			this.chunk.get(this.offset, bytes);
+
+			return new String(bytes, StandardCharsets.US_ASCII);
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Класс проверки методов класса {@link CodePointCharset}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class CodePointCharsetTest
+{
+	/**
+	 * Проверка метода {@link CodePointCharset#generate(int)} с символами Latin-1.
+	 */
+	@Test
+	public void generateWithLatin1()
+	{
+		CodePointCharset charset = CodePointCharset.of("aéü");
+
+		String actualString = charset.generate(20);
+
+		assertThat(charset.isLatin1()).isTrue();
+		assertThat(actualString).matches("[aéü]{20}");
+	}
+
+	/**
+	 * Проверка метода {@link CodePointCharset#generate(int)} с символами базовой многоязычной плоскости.
+	 */
+	@Test
+	public void generateWithBmp()
+	{
+		CodePointCharset charset = CodePointCharset.of("αβγ");
+
+		String actualString = charset.generate(20);
+
+		assertThat(charset.isLatin1()).isFalse();
+		assertThat(charset.isBmp()).isTrue();
+		assertThat(actualString).matches("[αβγ]{20}");
+	}
+
+	/**
+	 * Проверка метода {@link CodePointCharset#generate(int)} с символами дополнительных плоскостей.
+	 */
+	@Test
+	public void generateWithSupplementary()
+	{
+		CodePointCharset charset = CodePointCharset.of("a😀😁");
+
+		String actualString = charset.generate(50);
+
+		assertThat(charset.isBmp()).isFalse();
+		assertThat(actualString.codePointCount(0, actualString.length())).isEqualTo(50);
+		assertThat(actualString.codePoints()).allMatch(codePoint -> "a😀😁".indexOf(codePoint) >= 0);
+	}
+
+	/**
+	 * Проверка метода {@link CodePointCharset#generate(int)} с длиной, не помещающейся в UTF-16 строку.
+	 */
+	@Test
+	public void generateWithSupplementaryTooLong()
+	{
+		CodePointCharset charset = CodePointCharset.of("😀");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> charset.generate(Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Проверка метода {@link CodePointCharset#generate(int, CharBuffer)}.
+	 */
+	@Test
+	public void generateToCharBuffer()
+	{
+		CharBuffer buffer = CharBuffer.allocate(100);
+
+		CodePointCharset.of("😀").generate(10, buffer);
+
+		assertThat(buffer.flip().toString()).isEqualTo("😀".repeat(10));
+	}
+
+	/**
+	 * Проверка метода {@link CodePointCharset#generate(int, ByteBuffer)}.
+	 */
+	@Test
+	public void generateToByteBuffer()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(400);
+
+		CodePointCharset.of("ж😀").generate(60, buffer);
+
+		String actualString = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+
+		assertThat(actualString.codePointCount(0, actualString.length())).isEqualTo(60);
+		assertThat(actualString).matches("(ж|😀){60}");
+	}
+
+	/**
+	 * Проверка метода {@link CodePointCharset#generate(int, ByteBuffer)} с символами ASCII.
+	 */
+	@Test
+	public void generateToByteBufferWithAscii()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(32);
+
+		CodePointCharset.of("01").generate(32, buffer);
+
+		assertThat(new String(buffer.array(), StandardCharsets.US_ASCII)).matches("[01]{32}");
+	}
+
+	/**
+	 * Проверка метода {@link CodePointCharset#generate(int, ByteBuffer)} при недостатке места в буфере.
+	 */
+	@Test
+	public void generateToByteBufferOverflow()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(8);
+
+		assertThatExceptionOfType(BufferOverflowException.class)
+			.isThrownBy(() -> CodePointCharset.of("ab").generate(9, buffer));
+	}
+
+	/**
+	 * Проверка конструктора {@link CodePointCharset} с суррогатом.
+	 */
+	@Test
+	public void constructorWithSurrogate()
+	{
+		assertThatIllegalArgumentException().isThrownBy(() -> new CodePointCharset(0xD800));
+		assertThatIllegalArgumentException().isThrownBy(() -> new CodePointCharset());
+	}
+}
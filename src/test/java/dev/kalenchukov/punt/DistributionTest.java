@@ -0,0 +1,447 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import dev.kalenchukov.alphabet.EnglishAlphabet;
+import dev.kalenchukov.numeralsystem.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Класс статистической проверки распределения символов, генерируемых классами модуля.
+ * <p>
+ * Для каждого генератора и каждого встроенного набора символов проверяются
+ * частоты символов, частоты пар соседних символов и длины серий одинаковых
+ * символов критерием хи-квадрат. Порог критерия вычисляется для уровня
+ * значимости {@value #SIGNIFICANCE} и выводится в сообщении об ошибке.
+ * </p>
+ * <p>
+ * Количество символов в каждой проверке задаётся системным свойством
+ * {@code punt.statistics.symbols}, например {@code -Dpunt.statistics.symbols=1000000000}.
+ * Выборка генерируется и обрабатывается блоками параллельно.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public class DistributionTest
+{
+	/**
+	 * Уровень значимости.
+	 */
+	private static final double SIGNIFICANCE = 1e-6;
+
+	/**
+	 * Квантиль стандартного нормального распределения для уровня значимости {@link #SIGNIFICANCE}.
+	 */
+	private static final double QUANTILE = 4.753424;
+
+	/**
+	 * Количество символов в каждой проверке.
+	 */
+	private static final long SYMBOLS = Long.getLong("punt.statistics.symbols", 2_000_000L);
+
+	/**
+	 * Количество символов в одном блоке выборки.
+	 */
+	private static final int CHUNK_SIZE = 1 << 16;
+
+	/**
+	 * Количество случайных символов в строке {@link PartitionedGenerator}.
+	 */
+	private static final int TAIL_SIZE = 1 << 10;
+
+	/**
+	 * Возвращает генераторы и наборы символов.
+	 *
+	 * @return аргументы проверок.
+	 */
+	public static Stream<Arguments> sources()
+	{
+		final Map<String, List<Character>> charsets = new LinkedHashMap<>();
+
+		charsets.put("binary", BinarySystem.DIGITS);
+		charsets.put("ternary", TernarySystem.DIGITS);
+		charsets.put("quaternary", QuaternarySystem.DIGITS);
+		charsets.put("octal", OctalSystem.DIGITS);
+		charsets.put("decimal", DecimalSystem.DIGITS);
+		charsets.put("duodecimal", DuodecimalSystem.DIGITS);
+		charsets.put("hexadecimal", HexadecimalSystem.DIGITS);
+		charsets.put("alpha", EnglishAlphabet.LETTERS);
+		charsets.put("special", new Punt.Builder().withSpecial().compile());
+
+		final Punt.Builder mixed = new Punt.Builder().withAlpha().withDigit().withSpecial();
+
+		charsets.put("alpha+digit+special", mixed.compile());
+
+		final Map<List<Character>, IntFunction<String>> builtins = new HashMap<>();
+
+		builtins.put(charsets.get("binary"), Punt::getBinary);
+		builtins.put(charsets.get("ternary"), Punt::getTernary);
+		builtins.put(charsets.get("quaternary"), Punt::getQuaternary);
+		builtins.put(charsets.get("octal"), Punt::getOctal);
+		builtins.put(charsets.get("decimal"), Punt::getDecimal);
+		builtins.put(charsets.get("duodecimal"), Punt::getDuodecimal);
+		builtins.put(charsets.get("hexadecimal"), Punt::getHexadecimal);
+		builtins.put(charsets.get("alpha"), Punt::getAlpha);
+		builtins.put(charsets.get("special"), Punt::getSpecial);
+		builtins.put(charsets.get("alpha+digit+special"), mixed::build);
+
+		final Map<String, Function<List<Character>, IntFunction<String>>> engines = new LinkedHashMap<>();
+
+		engines.put("Punt.get", symbols -> {
+			final IntFunction<String> getter = builtins.get(symbols);
+
+			return chunk -> getter.apply(DistributionTest.CHUNK_SIZE);
+		});
+		engines.put("Punt.getPersonal", symbols -> chunk -> Punt.getPersonal(DistributionTest.CHUNK_SIZE, symbols));
+		engines.put("Punt.Builder", symbols -> {
+			final Punt.Builder builder = new Punt.Builder().withPersonal(symbols);
+
+			return chunk -> builder.fork().build(DistributionTest.CHUNK_SIZE);
+		});
+		engines.put("RandomSequence", symbols -> {
+			final RandomSequence sequence = new RandomSequence(DistributionTest.SYMBOLS, symbols);
+
+			return chunk -> sequence.subSequence(
+				(long) chunk * DistributionTest.CHUNK_SIZE, (long) (chunk + 1) * DistributionTest.CHUNK_SIZE
+			).toString();
+		});
+		engines.put("TokenArena", symbols -> chunk -> new TokenArena(DistributionTest.CHUNK_SIZE, 1, symbols).get(0).toString());
+		engines.put("CodePointCharset", symbols -> {
+			final StringBuilder string = new StringBuilder();
+
+			symbols.forEach(string::append);
+
+			final CodePointCharset charset = CodePointCharset.of(string);
+
+			return chunk -> charset.generate(DistributionTest.CHUNK_SIZE);
+		});
+		engines.put("PartitionedGenerator", symbols -> {
+			final long lifetime = TimeUnit.DAYS.toMillis(PartitionedGenerator.LIFETIME_DAYS)
+				* PartitionedGenerator.TICKS_PER_MILLISECOND;
+
+			int counterWidth = 1;
+
+			while (Math.pow(symbols.size(), counterWidth) <= lifetime) {
+				counterWidth++;
+			}
+
+			final int prefix = 1 + counterWidth;
+			final PartitionedGenerator generator = new PartitionedGenerator(
+				symbols, prefix + DistributionTest.TAIL_SIZE, 0, 1, counterWidth
+			);
+
+			return chunk -> {
+				final StringBuilder string = new StringBuilder(DistributionTest.CHUNK_SIZE);
+
+				while (string.length() < DistributionTest.CHUNK_SIZE) {
+					string.append(generator.generate(), prefix, prefix + DistributionTest.TAIL_SIZE);
+				}
+
+				return string.toString();
+			};
+		});
+
+		final List<Arguments> arguments = new ArrayList<>();
+
+		engines.forEach((engine, factory) -> charsets.forEach(
+			(charset, symbols) -> arguments.add(Arguments.of(engine, charset, symbols, factory))
+		));
+
+		return arguments.stream();
+	}
+
+	/**
+	 * Проверка равномерности частот символов.
+	 *
+	 * @param engine название генератора.
+	 * @param charset название набора символов.
+	 * @param symbols символы набора.
+	 * @param factory генератор блоков выборки.
+	 */
+	@ParameterizedTest(name = "{0} {1}")
+	@MethodSource("sources")
+	public void frequency(final String engine, final String charset, final List<Character> symbols,
+						  final Function<List<Character>, IntFunction<String>> factory)
+	{
+		final int[] index = DistributionTest.index(symbols);
+		final long[] observed = DistributionTest.sample(factory.apply(symbols), symbols.size(), (string, counts) -> {
+			for (int i = 0; i < string.length(); i++) {
+				counts[index[string.charAt(i)]]++;
+			}
+		});
+
+		DistributionTest.assertUniform(engine + " " + charset + " частоты символов", observed);
+	}
+
+	/**
+	 * Проверка равномерности частот пар соседних символов.
+	 *
+	 * @param engine название генератора.
+	 * @param charset название набора символов.
+	 * @param symbols символы набора.
+	 * @param factory генератор блоков выборки.
+	 */
+	@ParameterizedTest(name = "{0} {1}")
+	@MethodSource("sources")
+	public void serialPairs(final String engine, final String charset, final List<Character> symbols,
+							final Function<List<Character>, IntFunction<String>> factory)
+	{
+		final int radix = symbols.size();
+		final int[] index = DistributionTest.index(symbols);
+		final long[] observed = DistributionTest.sample(factory.apply(symbols), radix * radix, (string, counts) -> {
+			for (int i = 0; i + 1 < string.length(); i += 2) {
+				counts[index[string.charAt(i)] * radix + index[string.charAt(i + 1)]]++;
+			}
+		});
+
+		DistributionTest.assertUniform(engine + " " + charset + " пары символов", observed);
+	}
+
+	/**
+	 * Проверка распределения длин серий одинаковых символов.
+	 * <p>
+	 * Длина серии должна иметь геометрическое распределение с вероятностью
+	 * продолжения серии, равной единице, делённой на количество символов.
+	 * </p>
+	 *
+	 * @param engine название генератора.
+	 * @param charset название набора символов.
+	 * @param symbols символы набора.
+	 * @param factory генератор блоков выборки.
+	 */
+	@ParameterizedTest(name = "{0} {1}")
+	@MethodSource("sources")
+	public void runs(final String engine, final String charset, final List<Character> symbols,
+					 final Function<List<Character>, IntFunction<String>> factory)
+	{
+		final int maxLength = 64;
+		final long[] lengths = DistributionTest.sample(factory.apply(symbols), maxLength + 1, (string, counts) -> {
+			int length = 1;
+
+			for (int i = 1; i < string.length(); i++) {
+				if (string.charAt(i) == string.charAt(i - 1)) {
+					length++;
+				} else {
+					counts[Math.min(length, maxLength)]++;
+					length = 1;
+				}
+			}
+		});
+
+		final double continuation = 1.0 / symbols.size();
+		final long runs = Arrays.stream(lengths).sum();
+
+		int categories = 1;
+
+		while (categories < maxLength && runs * Math.pow(continuation, categories) >= 5) {
+			categories++;
+		}
+
+		final long[] observed = new long[categories];
+		final double[] expected = new double[categories];
+
+		for (int length = 1; length <= maxLength; length++) {
+			observed[Math.min(length, categories) - 1] += lengths[length];
+		}
+
+		for (int length = 1; length < categories; length++) {
+			expected[length - 1] = runs * Math.pow(continuation, length - 1) * (1 - continuation);
+		}
+
+		expected[categories - 1] = runs * Math.pow(continuation, categories - 1);
+
+		DistributionTest.assertChiSquare(engine + " " + charset + " серии символов", observed, expected);
+	}
+
+	/**
+	 * Проверка равномерности букв в каждой позиции слога {@link Pronounceable}.
+	 */
+	@Test
+	public void pronounceable()
+	{
+		final Pronounceable pronounceable = new Pronounceable("CVC");
+		final List<Character> consonants = new ArrayList<>();
+		final List<Character> vowels = new ArrayList<>();
+
+		for (char letter = 'a'; letter <= 'z'; letter++) {
+			(Pronounceable.ENGLISH_VOWELS.contains(letter) ? vowels : consonants).add(letter);
+		}
+
+		final int[] consonantIndex = DistributionTest.index(consonants);
+		final int[] vowelIndex = DistributionTest.index(vowels);
+		final int width = 3;
+		final int chunkSize = DistributionTest.CHUNK_SIZE / width * width;
+
+		final long[] observed = DistributionTest.sample(chunk -> pronounceable.generate(chunkSize),
+			consonants.size() * 2 + vowels.size(), (string, counts) -> {
+				for (int i = 0; i < string.length(); i += width) {
+					counts[consonantIndex[string.charAt(i)]]++;
+					counts[consonants.size() + vowelIndex[string.charAt(i + 1)]]++;
+					counts[consonants.size() + vowels.size() + consonantIndex[string.charAt(i + 2)]]++;
+				}
+			});
+
+		DistributionTest.assertUniform("Pronounceable первая согласная",
+			Arrays.copyOfRange(observed, 0, consonants.size()));
+		DistributionTest.assertUniform("Pronounceable гласная",
+			Arrays.copyOfRange(observed, consonants.size(), consonants.size() + vowels.size()));
+		DistributionTest.assertUniform("Pronounceable последняя согласная",
+			Arrays.copyOfRange(observed, consonants.size() + vowels.size(), observed.length));
+	}
+
+	/**
+	 * Интерфейс подсчёта наблюдений в блоке выборки.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@FunctionalInterface
+	private interface Counter
+	{
+		/**
+		 * Добавляет наблюдения блока выборки.
+		 *
+		 * @param string блок выборки.
+		 * @param counts количество наблюдений в каждой категории.
+		 */
+		void count(String string, long[] counts);
+	}
+
+	/**
+	 * Возвращает количество наблюдений по всей выборке.
+	 *
+	 * @param source генератор блоков выборки по номеру блока.
+	 * @param categories количество категорий наблюдений.
+	 * @param counter подсчёт наблюдений в блоке.
+	 * @return количество наблюдений в каждой категории.
+	 */
+	private static long[] sample(final IntFunction<String> source, final int categories, final Counter counter)
+	{
+		final int chunks = (int) Math.max(1, DistributionTest.SYMBOLS / DistributionTest.CHUNK_SIZE);
+
+		return IntStream.range(0, chunks)
+			.parallel()
+			.mapToObj(chunk -> {
+				final long[] counts = new long[categories];
+
+				counter.count(source.apply(chunk), counts);
+
+				return counts;
+			})
+			.reduce(new long[categories], (left, right) -> {
+				final long[] sum = new long[categories];
+
+				for (int i = 0; i < categories; i++) {
+					sum[i] = left[i] + right[i];
+				}
+
+				return sum;
+			});
+	}
+
+	/**
+	 * Возвращает индексы символов.
+	 *
+	 * @param symbols символы.
+	 * @return массив, в котором по коду символа находится его индекс.
+	 */
+	private static int[] index(final List<Character> symbols)
+	{
+		final int[] index = new int[Character.MAX_VALUE + 1];
+
+		Arrays.fill(index, -1);
+
+		for (int i = 0; i < symbols.size(); i++) {
+			index[symbols.get(i)] = i;
+		}
+
+		return index;
+	}
+
+	/**
+	 * Проверяет равномерность наблюдений.
+	 *
+	 * @param name название проверки.
+	 * @param observed количество наблюдений в каждой категории.
+	 */
+	private static void assertUniform(final String name, final long[] observed)
+	{
+		final double[] expected = new double[observed.length];
+
+		Arrays.fill(expected, (double) Arrays.stream(observed).sum() / observed.length);
+
+		DistributionTest.assertChiSquare(name, observed, expected);
+	}
+
+	/**
+	 * Проверяет соответствие наблюдений ожидаемым значениям критерием хи-квадрат.
+	 *
+	 * @param name название проверки.
+	 * @param observed количество наблюдений в каждой категории.
+	 * @param expected ожидаемое количество наблюдений в каждой категории.
+	 */
+	private static void assertChiSquare(final String name, final long[] observed, final double[] expected)
+	{
+		double statistic = 0;
+
+		for (int i = 0; i < observed.length; i++) {
+			final double difference = observed[i] - expected[i];
+
+			statistic += difference * difference / expected[i];
+		}
+
+		final int freedom = Math.max(1, observed.length - 1);
+		final double threshold = DistributionTest.threshold(freedom);
+
+		assertThat(statistic)
+			.withFailMessage("%s: χ² = %.2f превышает порог %.2f (степеней свободы %d, уровень значимости %s)",
+				name, statistic, threshold, freedom, DistributionTest.SIGNIFICANCE)
+			.isLessThanOrEqualTo(threshold);
+	}
+
+	/**
+	 * Возвращает порог критерия хи-квадрат по приближению Уилсона — Хилферти.
+	 *
+	 * @param freedom количество степеней свободы.
+	 * @return порог критерия.
+	 */
+	private static double threshold(final int freedom)
+	{
+		final double variance = 2.0 / (9.0 * freedom);
+
+		return freedom * Math.pow(1 - variance + DistributionTest.QUANTILE * Math.sqrt(variance), 3);
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Класс проверки методов класса {@link Main}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MainTest
+{
+	/**
+	 * Проверка метода {@link Main#run(String[], WritableByteChannel, PrintStream)}.
+	 */
+	@Test
+	public void run()
+	{
+		ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+		ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+		int status = Main.run(
+			new String[] {"--hex", "--length", "12", "--count", "10000", "--threads", "4"},
+			Channels.newChannel(stdout), new PrintStream(stderr)
+		);
+
+		List<String> lines = stdout.toString(StandardCharsets.UTF_8).lines().toList();
+
+		assertThat(status).isZero();
+		assertThat(lines).hasSize(10_000).allMatch(line -> line.matches("[0-9A-F]{12}"));
+	}
+
+	/**
+	 * Проверка метода {@link Main#run(String[], WritableByteChannel, PrintStream)}
+	 * с форматом CSV.
+	 */
+	@Test
+	public void runWithCsv()
+	{
+		ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+
+		int status = Main.run(
+			new String[] {"--personal", "a\"", "--length", "4", "--count", "50", "--format", "csv", "--header", "code"},
+			Channels.newChannel(stdout), new PrintStream(new ByteArrayOutputStream())
+		);
+
+		List<String> lines = stdout.toString(StandardCharsets.UTF_8).lines().toList();
+
+		assertThat(status).isZero();
+		assertThat(lines.get(0)).isEqualTo("code");
+		assertThat(lines.subList(1, lines.size()))
+			.hasSize(50)
+			.allMatch(line -> line.equals("aaaa") || line.matches("\"(a|\"\"){4}\""));
+	}
+
+	/**
+	 * Проверка метода {@link Main#run(String[], WritableByteChannel, PrintStream)}
+	 * с записью в файл в формате binary.
+	 */
+	@Test
+	public void runWithBinaryOutput(@TempDir final Path directory) throws IOException
+	{
+		Path path = directory.resolve("codes.bin");
+
+		int status = Main.run(
+			new String[] {"--decimal", "--without", "0", "--length", "8", "--count", "1000",
+				"--format", "binary", "--output", path.toString()},
+			Channels.newChannel(new ByteArrayOutputStream()), new PrintStream(new ByteArrayOutputStream())
+		);
+
+		assertThat(status).isZero();
+		assertThat(Files.readString(path, StandardCharsets.US_ASCII)).matches("[1-9]{8000}");
+	}
+
+	/**
+	 * Проверка метода {@link Main#run(String[], WritableByteChannel, PrintStream)}
+	 * без указания наборов символов.
+	 */
+	@Test
+	public void runWithoutSymbols()
+	{
+		ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+		int status = Main.run(
+			new String[] {"--length", "8"},
+			Channels.newChannel(new ByteArrayOutputStream()), new PrintStream(stderr)
+		);
+
+		assertThat(status).isEqualTo(2);
+		assertThat(stderr.toString()).isNotEmpty();
+	}
+
+	/**
+	 * Проверка метода {@link Main#run(String[], WritableByteChannel, PrintStream)}
+	 * с ошибкой записи в потоке генерирования.
+	 */
+	@Test
+	public void runWithWorkerFailure()
+	{
+		WritableByteChannel channel = new WritableByteChannel()
+		{
+			@Override
+			public int write(final ByteBuffer buffer)
+			{
+				throw new IllegalStateException("write failed");
+			}
+
+			@Override
+			public boolean isOpen()
+			{
+				return true;
+			}
+
+			@Override
+			public void close() {}
+		};
+
+		ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+		int status = Main.run(
+			new String[] {"--hex", "--count", "100", "--threads", "2"},
+			channel, new PrintStream(stderr)
+		);
+
+		assertThat(status).isEqualTo(1);
+		assertThat(stderr.toString()).contains("write failed");
+	}
+
+	/**
+	 * Проверка метода {@link Main#run(String[], WritableByteChannel, PrintStream)}
+	 * со слишком большой длиной строки.
+	 */
+	@Test
+	public void runWithLengthTooLarge()
+	{
+		int status = Main.run(
+			new String[] {"--hex", "--length", "800000000"},
+			Channels.newChannel(new ByteArrayOutputStream()), new PrintStream(new ByteArrayOutputStream())
+		);
+
+		assertThat(status).isEqualTo(2);
+	}
+}
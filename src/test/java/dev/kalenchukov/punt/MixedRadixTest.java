@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Класс проверки методов класса {@link MixedRadix}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MixedRadixTest
+{
+	/**
+	 * Проверка метода {@link MixedRadix#getDigits()}.
+	 */
+	@Test
+	public void getDigits()
+	{
+		assertThat(new MixedRadix(1).getDigits()).isEqualTo(64);
+		assertThat(new MixedRadix(2).getDigits()).isEqualTo(63);
+		assertThat(new MixedRadix(10).getDigits()).isEqualTo(19);
+		assertThat(new MixedRadix(62).getDigits()).isEqualTo(10);
+		assertThat(new MixedRadix(94).getDigits()).isEqualTo(9);
+	}
+
+	/**
+	 * Проверка конструктора {@link MixedRadix} с недопустимым основанием.
+	 */
+	@Test
+	public void constructorWithRadixZero()
+	{
+		assertThatIllegalArgumentException().isThrownBy(() -> new MixedRadix(0));
+	}
+
+	/**
+	 * Проверка метода {@link MixedRadix#fill(RandomGenerator, char[], char[], int, int)}
+	 * с максимальным случайным числом.
+	 */
+	@Test
+	public void fillWithMaxValue()
+	{
+		char[] target = new char[25];
+
+		new MixedRadix(10).fill(() -> -1L, "0123456789".toCharArray(), target, 0, target.length);
+
+		assertThat(new String(target)).isEqualTo("9".repeat(25));
+	}
+
+	/**
+	 * Проверка метода {@link MixedRadix#fill(RandomGenerator, char[], char[], int, int)}
+	 * с отбрасыванием случайного числа.
+	 */
+	@Test
+	public void fillWithRejectedValue()
+	{
+		Iterator<Long> values = List.of(0L, -1L).iterator();
+		char[] target = new char[19];
+
+		new MixedRadix(10).fill(values::next, "0123456789".toCharArray(), target, 0, target.length);
+
+		assertThat(new String(target)).isEqualTo("9".repeat(19));
+	}
+
+	/**
+	 * Проверка метода {@link MixedRadix#fill(RandomGenerator, char[], char[], int, int)}
+	 * со смещением.
+	 */
+	@Test
+	public void fillWithOffset()
+	{
+		char[] target = "..........".toCharArray();
+
+		new MixedRadix(2).fill(RandomGenerator.getDefault(), "01".toCharArray(), target, 3, 4);
+
+		assertThat(new String(target)).matches("\\.{3}[01]{4}\\.{3}");
+	}
+
+	/**
+	 * Проверка метода {@link MixedRadix#fill(RandomGenerator, char[], char[], int, int)}
+	 * на использование всех символов.
+	 */
+	@Test
+	public void fillWithAllSymbols()
+	{
+		char[] symbols = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+		char[] target = new char[62_000];
+
+		new MixedRadix(symbols.length).fill(RandomGenerator.getDefault(), symbols, target, 0, target.length);
+
+		String actualString = new String(target);
+
+		for (char symbol : symbols) {
+			assertThat(actualString).contains(String.valueOf(symbol));
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import dev.kalenchukov.numeralsystem.DecimalSystem;
+import dev.kalenchukov.numeralsystem.HexadecimalSystem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Класс проверки методов класса {@link PartitionedGenerator}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class PartitionedGeneratorTest
+{
+	/**
+	 * Проверка метода {@link PartitionedGenerator#generate()}.
+	 */
+	@Test
+	public void generate()
+	{
+		PartitionedGenerator generator = new PartitionedGenerator(HexadecimalSystem.DIGITS, 20, 26, 2, 13);
+
+		String actualString = generator.generate();
+
+		assertThat(generator.getNode()).isEqualTo("1A");
+		assertThat(actualString).matches("1A[0-9A-F]{18}");
+	}
+
+	/**
+	 * Проверка метода {@link PartitionedGenerator#generate()} на возрастание строк одного узла.
+	 */
+	@Test
+	public void generateOrdered()
+	{
+		PartitionedGenerator generator = new PartitionedGenerator(DecimalSystem.DIGITS, 24, 7, 2, 18);
+		List<String> strings = new ArrayList<>();
+
+		for (int i = 0; i < 10_000; i++) {
+			strings.add(generator.generate().substring(0, 20));
+		}
+
+		assertThat(strings).isSortedAccordingTo(String::compareTo).doesNotHaveDuplicates();
+	}
+
+	/**
+	 * Проверка метода {@link PartitionedGenerator#generate()} на нескольких узлах одновременно.
+	 */
+	@Test
+	public void generateOnSeveralNodes()
+	{
+		List<PartitionedGenerator> nodes = new ArrayList<>();
+
+		for (int nodeId = 0; nodeId < 16; nodeId++) {
+			nodes.add(new PartitionedGenerator(HexadecimalSystem.DIGITS, 16, nodeId, 1, 14));
+		}
+
+		Set<String> strings = ConcurrentHashMap.newKeySet();
+
+		IntStream.range(0, 320_000).parallel().forEach(
+			i -> assertThat(strings.add(nodes.get(i % nodes.size()).generate())).isTrue()
+		);
+
+		assertThat(strings).hasSize(320_000);
+	}
+
+	/**
+	 * Проверка конструктора {@link PartitionedGenerator} с номером узла, не помещающимся в строку.
+	 */
+	@Test
+	public void constructorWithNodeIdOverflow()
+	{
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new PartitionedGenerator(DecimalSystem.DIGITS, 20, 100, 2, 16));
+	}
+
+	/**
+	 * Проверка конструктора {@link PartitionedGenerator} с длиной меньше служебных частей.
+	 */
+	@Test
+	public void constructorWithLengthTooShort()
+	{
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new PartitionedGenerator(DecimalSystem.DIGITS, 10, 1, 2, 16));
+	}
+
+	/**
+	 * Проверка метода {@link PartitionedGenerator#generate()} для двух объектов одного узла.
+	 */
+	@Test
+	public void generateWithSameNode()
+	{
+		PartitionedGenerator first = new PartitionedGenerator(HexadecimalSystem.DIGITS, 16, 3, 1, 15);
+		PartitionedGenerator second = new PartitionedGenerator(HexadecimalSystem.DIGITS, 16, 3, 1, 15);
+		Set<String> strings = new HashSet<>();
+
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(strings.add(first.generate())).isTrue();
+			assertThat(strings.add(second.generate())).isTrue();
+		}
+	}
+
+	/**
+	 * Проверка метода {@link PartitionedGenerator#generate()} для объекта с собственным источником времени.
+	 */
+	@Test
+	public void generateWithClock()
+	{
+		long farFuture = PartitionedGenerator.EPOCH + 100L * 86_400_000L * 365L;
+		PartitionedGenerator shared = new PartitionedGenerator(HexadecimalSystem.DIGITS, 20, 9, 1, 15);
+		PartitionedGenerator clocked = new PartitionedGenerator(
+			HexadecimalSystem.DIGITS, 20, 9, 1, 15, () -> farFuture
+		);
+
+		String future = clocked.generate().substring(0, 16);
+
+		assertThat(shared.generate().substring(0, 16)).isLessThan(future);
+	}
+
+	/**
+	 * Проверка метода {@link PartitionedGenerator#generate()} при переполнении возрастающего значения.
+	 */
+	@Test
+	public void generateWithCounterOverflow()
+	{
+		long farFuture = PartitionedGenerator.EPOCH + 1_000L * 86_400_000L * 365L;
+		PartitionedGenerator generator = new PartitionedGenerator(
+			List.of('x', 'y'), 60, 0, 1, 51, () -> farFuture
+		);
+
+		assertThatIllegalStateException().isThrownBy(generator::generate);
+	}
+
+	/**
+	 * Проверка конструктора {@link PartitionedGenerator} с недостаточной длиной возрастающего значения.
+	 */
+	@Test
+	public void constructorWithCounterTooShort()
+	{
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new PartitionedGenerator(HexadecimalSystem.DIGITS, 20, 1, 1, 12));
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import dev.kalenchukov.alphabet.RussianAlphabet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Класс проверки методов класса {@link Pronounceable}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class PronounceableTest
+{
+	/**
+	 * Проверка метода {@link Pronounceable#generate(int)}.
+	 */
+	@Test
+	public void generate()
+	{
+		String actualString = new Pronounceable().generate(12);
+
+		assertThat(actualString).matches("([b-df-hj-np-tv-z][aeiou]){6}");
+	}
+
+	/**
+	 * Проверка метода {@link Pronounceable#generate(int)} с длиной, не кратной длине слога.
+	 */
+	@Test
+	public void generateWithPartialSyllable()
+	{
+		String actualString = new Pronounceable("CVC").generate(7);
+
+		assertThat(actualString).matches("[b-df-hj-np-tv-z][aeiou][b-df-hj-np-tv-z][b-df-hj-np-tv-z][aeiou][b-df-hj-np-tv-z][b-df-hj-np-tv-z]");
+	}
+
+	/**
+	 * Проверка метода {@link Pronounceable#generate(int)} с указанием алфавита.
+	 */
+	@Test
+	public void generateWithAlphabet()
+	{
+		Pronounceable pronounceable = new Pronounceable(
+			new RussianAlphabet(), Set.of('а', 'е', 'ё', 'и', 'о', 'у', 'ы', 'э', 'ю', 'я'), "VC"
+		);
+
+		String actualString = pronounceable.generate(8);
+
+		assertThat(actualString).matches("([аеёиоуыэюя][б-джзй-нп-тф-щъь]){4}");
+	}
+
+	/**
+	 * Проверка метода {@link Pronounceable#getEntropy()}.
+	 */
+	@Test
+	public void getEntropy()
+	{
+		Pronounceable pronounceable = new Pronounceable("CVC");
+
+		assertThat(pronounceable.getSyllables()).isEqualTo(21 * 5 * 21);
+		assertThat(pronounceable.getEntropy()).isCloseTo(Math.log(2205) / Math.log(2), within(1e-9));
+	}
+
+	/**
+	 * Проверка конструктора {@link Pronounceable} с недопустимым шаблоном.
+	 */
+	@Test
+	public void constructorWithInvalidPattern()
+	{
+		assertThatIllegalArgumentException().isThrownBy(() -> new Pronounceable("CXV"));
+		assertThatIllegalArgumentException().isThrownBy(() -> new Pronounceable(""));
+	}
+}
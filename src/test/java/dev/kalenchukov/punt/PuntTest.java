@@ -162,6 +162,17 @@ public class PuntTest
 			assertThat(actualString).containsPattern("[\\\\!\"#$%&'()*+,-./:;<=>?@\\[\\]^_`{|}~]{10}");
 		}
 
+		/**
+		 * Проверка метода {@link Punt#getPronounceable(int)}.
+		 */
+		@Test
+		public void getPronounceable()
+		{
+			String actualString = Punt.getPronounceable(10);
+
+			assertThat(actualString).matches("([b-df-hj-np-tv-z][aeiou]){5}");
+		}
+
 		/**
 		 * Класс проверки метода {@link Punt#getPersonal(int, Collection)}.
 		 *
@@ -213,6 +224,27 @@ public class PuntTest
 
 				assertThat(actualString).containsPattern("\\.{10}");
 			}
+
+			/**
+			 * Проверка метода {@link Punt#getPersonal(int, int...)}.
+			 */
+			@Test
+			public void getPersonalWithCodePoints()
+			{
+				String actualString = Punt.getPersonal(10, 0x1F34E, 0x1F350, 0x1F34A);
+
+				assertThat(actualString.codePointCount(0, actualString.length())).isEqualTo(10);
+				assertThat(actualString.codePoints()).allMatch(codePoint -> codePoint == 0x1F34E || codePoint == 0x1F350 || codePoint == 0x1F34A);
+			}
+
+			/**
+			 * Проверка метода {@link Punt#getPersonal(int, int...)} без указания символов.
+			 */
+			@Test
+			public void getPersonalWithCodePointsEmpty()
+			{
+				assertThat(Punt.getPersonal(10)).isEmpty();
+			}
 		}
 	}
 
@@ -406,5 +438,148 @@ public class PuntTest
 
 			assertThat(actualString).containsPattern("[\\\\!\"#$%&'()*+,-./:;<=>?@\\[\\]^_`{|}~]{15}");
 		}
+
+		/**
+		 * Проверка метода {@link Punt.Builder#fork()}.
+		 */
+		@Test
+		public void fork()
+		{
+			Punt.Builder base = new Punt.Builder().withBinary();
+
+			String forkString = base.fork()
+					.withSpecial()
+					.build(100);
+
+			String baseString = base.build(100);
+
+			assertThat(forkString).containsPattern("[01\\\\!\"#$%&'()*+,-./:;<=>?@\\[\\]^_`{|}~]{100}");
+			assertThat(baseString).containsPattern("[01]{100}");
+		}
+
+		/**
+		 * Проверка метода {@link Punt.Builder#fork()} с исключением символов в копии.
+		 */
+		@Test
+		public void forkWithout()
+		{
+			Punt.Builder base = new Punt.Builder().withDecimal();
+			Punt.Builder fork = base.fork().without(List.of('0', '1', '2', '3', '4'));
+
+			assertThat(fork.build(50)).containsPattern("[5-9]{50}");
+			assertThat(base.compile()).hasSize(10);
+		}
+
+		/**
+		 * Проверка метода {@link Punt.Builder#withPersonal(Collection)} из нескольких потоков.
+		 */
+		@Test
+		public void withPersonalConcurrent() throws InterruptedException
+		{
+			Punt.Builder builder = new Punt.Builder();
+			Thread[] threads = new Thread[8];
+
+			for (int i = 0; i < threads.length; i++) {
+				final char first = (char) ('a' + i * 3);
+
+				threads[i] = new Thread(() -> {
+					for (int symbol = first; symbol < first + 3; symbol++) {
+						builder.withPersonal(List.of((char) symbol));
+					}
+				});
+				threads[i].start();
+			}
+
+			for (Thread thread : threads) {
+				thread.join();
+			}
+
+			assertThat(builder.compile()).hasSize(threads.length * 3);
+		}
+
+		/**
+		 * Проверка метода {@link Punt.Builder#without(Collection)}.
+		 */
+		@Test
+		public void without()
+		{
+			String actualString = new Punt.Builder()
+					.without(List.of('0', '1'))
+					.withDecimal()
+					.build(100);
+
+			assertThat(actualString).containsPattern("[2-9]{100}");
+		}
+
+		/**
+		 * Проверка метода {@link Punt.Builder#withoutAmbiguous()}.
+		 */
+		@Test
+		public void withoutAmbiguous()
+		{
+			String actualString = new Punt.Builder()
+					.withAlpha()
+					.withDigit()
+					.withSpecial()
+					.withoutAmbiguous()
+					.build(1000);
+
+			assertThat(actualString).hasSize(1000);
+			assertThat(actualString).doesNotContainPattern("[0O1lI|'\"`\\\\]");
+		}
+
+		/**
+		 * Проверка метода {@link Punt.Builder#without(Collection)} с исключением всех символов.
+		 */
+		@Test
+		public void withoutAll()
+		{
+			String actualString = new Punt.Builder()
+					.withBinary()
+					.without(List.of('0', '1'))
+					.build(10);
+
+			assertThat(actualString).isEmpty();
+		}
+
+		/**
+		 * Проверка метода {@link Punt.Builder#buildArena(int, long)}.
+		 */
+		@Test
+		public void buildArena()
+		{
+			TokenArena arena = new Punt.Builder()
+					.withHexadecimal()
+					.buildArena(12, 5);
+
+			assertThat(arena.size()).isEqualTo(5);
+			assertThat(arena.get(4).toString()).containsPattern("[0-9A-F]{12}");
+		}
+
+		/**
+		 * Проверка метода {@link Punt.Builder#buildSequence(long)}.
+		 */
+		@Test
+		public void buildSequence()
+		{
+			RandomSequence sequence = new Punt.Builder()
+					.withOctal()
+					.buildSequence(20);
+
+			assertThat(sequence.toString()).containsPattern("[0-7]{20}");
+		}
+
+		/**
+		 * Проверка метода {@link Punt.Builder#buildPartitioned(int, long, int, int)}.
+		 */
+		@Test
+		public void buildPartitioned()
+		{
+			PartitionedGenerator generator = new Punt.Builder()
+					.withHexadecimal()
+					.buildPartitioned(24, 255, 2, 13);
+
+			assertThat(generator.generate()).containsPattern("FF[0-9A-F]{22}");
+		}
 	}
 }
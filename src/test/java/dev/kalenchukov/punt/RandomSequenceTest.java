@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import dev.kalenchukov.numeralsystem.DecimalSystem;
+import dev.kalenchukov.numeralsystem.HexadecimalSystem;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Класс проверки методов класса {@link RandomSequence}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class RandomSequenceTest
+{
+	/**
+	 * Проверка метода {@link RandomSequence#toString()}.
+	 */
+	@Test
+	public void testToString()
+	{
+		RandomSequence sequence = new RandomSequence(100, HexadecimalSystem.DIGITS);
+
+		assertThat(sequence.toString()).matches("[0-9A-F]{100}");
+	}
+
+	/**
+	 * Проверка метода {@link RandomSequence#charAt(long)}.
+	 */
+	@Test
+	public void charAt()
+	{
+		RandomSequence sequence = new RandomSequence(1000, DecimalSystem.DIGITS, 42L, 0L);
+		String string = sequence.toString();
+
+		for (int i = 0; i < string.length(); i++) {
+			assertThat(sequence.charAt(i)).isEqualTo(string.charAt(i));
+		}
+	}
+
+	/**
+	 * Проверка метода {@link RandomSequence#charAt(long)} с позицией больше {@link Integer#MAX_VALUE}.
+	 */
+	@Test
+	public void charAtWithLongIndex()
+	{
+		RandomSequence sequence = new RandomSequence(1L << 40, List.of('a', 'b', 'c'), 7L, 0L);
+
+		assertThat(sequence.length()).isEqualTo(Integer.MAX_VALUE);
+		assertThat(sequence.getLength()).isEqualTo(1L << 40);
+		assertThat(sequence.charAt((1L << 40) - 1)).isIn('a', 'b', 'c');
+		assertThat(sequence.charAt(1L << 35)).isEqualTo(sequence.charAt(1L << 35));
+	}
+
+	/**
+	 * Проверка метода {@link RandomSequence#charAt(long)} с позицией вне диапазона.
+	 */
+	@Test
+	public void charAtWithIndexOutOfBounds()
+	{
+		RandomSequence sequence = new RandomSequence(10, DecimalSystem.DIGITS);
+
+		assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> sequence.charAt(10L));
+	}
+
+	/**
+	 * Проверка метода {@link RandomSequence#subSequence(long, long)}.
+	 */
+	@Test
+	public void subSequence()
+	{
+		RandomSequence sequence = new RandomSequence(500, DecimalSystem.DIGITS, 1L, 0L);
+
+		assertThat(sequence.subSequence(123L, 321L).toString())
+			.isEqualTo(sequence.toString().substring(123, 321));
+	}
+
+	/**
+	 * Проверка метода {@link RandomSequence#reader(long, long)}.
+	 */
+	@Test
+	public void reader() throws IOException
+	{
+		RandomSequence sequence = new RandomSequence(10_000, DecimalSystem.DIGITS, 3L, 0L);
+		StringWriter writer = new StringWriter();
+
+		try (Reader reader = sequence.reader(17, 9_000)) {
+			reader.transferTo(writer);
+		}
+
+		assertThat(writer.toString()).isEqualTo(sequence.toString().substring(17, 9_000));
+	}
+
+	/**
+	 * Проверка метода {@link RandomSequence#reader(long, long)} после закрытия потока.
+	 */
+	@Test
+	public void readerClosed() throws IOException
+	{
+		RandomSequence sequence = new RandomSequence(100, DecimalSystem.DIGITS, 3L, 0L);
+		Reader reader = sequence.reader(0, 100);
+
+		reader.close();
+
+		assertThatIOException().isThrownBy(reader::read);
+		assertThatIOException().isThrownBy(() -> reader.skip(1));
+	}
+
+	/**
+	 * Проверка метода {@link RandomSequence#charAt(long)} при параллельном чтении.
+	 */
+	@Test
+	public void charAtParallel()
+	{
+		RandomSequence sequence = new RandomSequence(100_000, HexadecimalSystem.DIGITS, 5L, 0L);
+		String string = sequence.toString();
+
+		boolean actual = LongStream.range(0, sequence.getLength())
+			.parallel()
+			.allMatch(index -> sequence.charAt(index) == string.charAt((int) index));
+
+		assertThat(actual).isTrue();
+	}
+
+	/**
+	 * Проверка конструктора {@link RandomSequence} с одинаковым ключом.
+	 */
+	@Test
+	public void constructorWithSameKey()
+	{
+		String expected = new RandomSequence(64, DecimalSystem.DIGITS, 9L, 0L).toString();
+		String actual = new RandomSequence(64, DecimalSystem.DIGITS, 9L, 0L).toString();
+
+		assertThat(actual).isEqualTo(expected);
+	}
+
+	/**
+	 * Проверка конструктора {@link RandomSequence} без указания символов.
+	 */
+	@Test
+	public void constructorWithSymbolsEmpty()
+	{
+		assertThatIllegalArgumentException().isThrownBy(() -> new RandomSequence(10, List.of()));
+	}
+
+	/**
+	 * Проверка метода {@link RandomSequence#toString()} с длиной больше {@link Integer#MAX_VALUE}.
+	 */
+	@Test
+	public void testToStringWithLongLength()
+	{
+		RandomSequence sequence = new RandomSequence(1L << 32, DecimalSystem.DIGITS);
+
+		assertThatIllegalStateException().isThrownBy(sequence::toString);
+	}
+
+	/**
+	 * Проверка метода {@link RandomSequence#sipHash(long, long, long, long)} по эталонному значению.
+	 * <p>
+	 * Ключ и сообщение состоят из байт {@code 00 01 02 ... 0f}.
+	 * </p>
+	 */
+	@Test
+	public void sipHash()
+	{
+		long actual = RandomSequence.sipHash(
+			0x0706050403020100L, 0x0F0E0D0C0B0A0908L, 0x0706050403020100L, 0x0F0E0D0C0B0A0908L
+		);
+
+		assertThat(actual).isEqualTo(0x3F2ACC7F57C29BDBL);
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Класс проверки методов класса {@link SymbolSet}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class SymbolSetTest
+{
+	/**
+	 * Проверка метода {@link SymbolSet#of(java.util.Collection)}.
+	 */
+	@Test
+	public void of()
+	{
+		SymbolSet symbolSet = SymbolSet.of(List.of('c', 'a', 'b', 'a'));
+
+		assertThat(symbolSet.toList()).containsExactly('a', 'b', 'c');
+	}
+
+	/**
+	 * Проверка метода {@link SymbolSet#with(SymbolSet)}.
+	 */
+	@Test
+	public void with()
+	{
+		SymbolSet symbolSet = SymbolSet.of(Set.of('a', 'c')).with(SymbolSet.of(Set.of('b', 'd')));
+
+		assertThat(symbolSet.toList()).containsExactly('a', 'b', 'c', 'd');
+	}
+
+	/**
+	 * Проверка метода {@link SymbolSet#with(java.util.Collection)} без новых символов.
+	 */
+	@Test
+	public void withSameSymbols()
+	{
+		SymbolSet symbolSet = SymbolSet.of(Set.of('a', 'b', 'c'));
+
+		assertThat(symbolSet.with(Set.of('b', 'a'))).isSameAs(symbolSet);
+	}
+
+	/**
+	 * Проверка запоминания результатов методов {@link SymbolSet#with(SymbolSet)}
+	 * и {@link SymbolSet#without(SymbolSet)}.
+	 */
+	@Test
+	public void withMemoized()
+	{
+		SymbolSet base = SymbolSet.of(Set.of('a', 'b'));
+		SymbolSet added = SymbolSet.of(Set.of('c', 'd'));
+		SymbolSet removed = SymbolSet.of(Set.of('a'));
+
+		assertThat(base.with(added)).isSameAs(base.with(added));
+		assertThat(base.with(added).without(removed)).isSameAs(base.with(added).without(removed));
+		assertThat(base.with(added).without(removed).toList()).containsExactly('b', 'c', 'd');
+	}
+
+	/**
+	 * Проверка метода {@link SymbolSet#without(java.util.Collection)}.
+	 */
+	@Test
+	public void without()
+	{
+		SymbolSet symbolSet = SymbolSet.of(Set.of('a', 'b', 'c')).without(Set.of('b', 'x'));
+
+		assertThat(symbolSet.toList()).containsExactly('a', 'c');
+		assertThat(symbolSet.with(Set.of('b')).toList()).containsExactly('a', 'c');
+		assertThat(symbolSet.without(Set.of('x'))).isSameAs(symbolSet);
+	}
+
+	/**
+	 * Проверка метода {@link SymbolSet#generate(int)}.
+	 */
+	@Test
+	public void generate()
+	{
+		assertThat(SymbolSet.of(Set.of('x', 'y')).generate(20)).matches("[xy]{20}");
+		assertThat(SymbolSet.EMPTY.generate(20)).isEmpty();
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2022-2024 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.punt;
+
+import dev.kalenchukov.alphabet.RussianAlphabet;
+import dev.kalenchukov.numeralsystem.DecimalSystem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Класс проверки методов класса {@link TokenArena}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class TokenArenaTest
+{
+	/**
+	 * Проверка метода {@link TokenArena#get(long)}.
+	 */
+	@Test
+	public void get()
+	{
+		TokenArena arena = new TokenArena(10, 1000, DecimalSystem.DIGITS);
+
+		assertThat(arena.size()).isEqualTo(1000);
+		assertThat(arena.getWidth()).isEqualTo(10);
+
+		for (long i = 0; i < arena.size(); i++) {
+			assertThat(arena.get(i).toString()).matches("[0-9]{10}");
+		}
+	}
+
+	/**
+	 * Проверка метода {@link TokenArena#get(long)} с индексом вне диапазона.
+	 */
+	@Test
+	public void getWithIndexOutOfBounds()
+	{
+		TokenArena arena = new TokenArena(10, 3, DecimalSystem.DIGITS);
+
+		assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> arena.get(3));
+	}
+
+	/**
+	 * Проверка метода {@link CharSequence#subSequence(int, int)} строки {@link TokenArena}.
+	 */
+	@Test
+	public void getSubSequence()
+	{
+		TokenArena arena = new TokenArena(8, 1, List.of('a', 'b'));
+
+		CharSequence token = arena.get(0);
+
+		assertThat(token.subSequence(2, 5).toString()).isEqualTo(token.toString().substring(2, 5));
+	}
+
+	/**
+	 * Проверка метода {@link TokenArena#writeTo(java.nio.channels.WritableByteChannel)}.
+	 */
+	@Test
+	public void writeToChannel() throws IOException
+	{
+		TokenArena arena = new TokenArena(6, 50, List.of('x', 'y', 'z'));
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		arena.writeTo(Channels.newChannel(output));
+
+		String actualString = output.toString(StandardCharsets.US_ASCII);
+
+		assertThat(actualString).matches("[xyz]{300}");
+		assertThat(actualString.substring(12, 18)).isEqualTo(arena.get(2).toString());
+	}
+
+	/**
+	 * Проверка метода {@link TokenArena#writeTo(Path)}.
+	 */
+	@Test
+	public void writeToPath(@TempDir final Path directory) throws IOException
+	{
+		TokenArena arena = new TokenArena(4, 25, DecimalSystem.DIGITS);
+		Path path = directory.resolve("tokens");
+
+		arena.writeTo(path);
+
+		assertThat(Files.size(path)).isEqualTo(100);
+	}
+
+	/**
+	 * Проверка конструктора {@link TokenArena} с символами вне ASCII.
+	 */
+	@Test
+	public void constructorWithNonAscii()
+	{
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new TokenArena(4, 1, new RussianAlphabet().toList()));
+	}
+
+	/**
+	 * Проверка конструктора {@link TokenArena} без указания символов.
+	 */
+	@Test
+	public void constructorWithSymbolsEmpty()
+	{
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new TokenArena(4, 1, List.of()));
+	}
+}